@@ -0,0 +1,60 @@
+package benchmarks;
+
+import com.microsoft.playwright.Locator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static assertions.CustomAssertions.assertThatElementInnerTextEqualTo;
+import static assertions.CustomAssertions.assertThatElementIsVisible;
+import static assertions.CustomAssertions.assertThatElementTextEqualTo;
+import static assertions.CustomAssertions.assertThatInputFieldElementValueEqualToValue;
+import static assertions.CustomAssertions.assertThatValueEqualToValue;
+import static locator_templates.LocatorTemplate.getLocatorByDataAttribute;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AssertionsBenchmark {
+    private Locator passwordField;
+    private Locator loginButton;
+
+    @Setup
+    public void setUp(LocalPageState state) {
+        passwordField = state.getPage().locator(getLocatorByDataAttribute("customer-password-input"));
+        loginButton = state.getPage().locator(getLocatorByDataAttribute("customer-login-button"));
+    }
+
+    @Benchmark
+    public void valueEqualToValue(LocalPageState state) {
+        state.step("Assert that value is equal to value", () -> assertThatValueEqualToValue("Log in", "Log in", "Value"));
+    }
+
+    @Benchmark
+    public void elementIsVisible(LocalPageState state) {
+        state.step("Assert That Element Is Visible", () -> assertThatElementIsVisible(loginButton, true, "Login Button"));
+    }
+
+    @Benchmark
+    public void elementTextEqualTo(LocalPageState state) {
+        state.step("Assert That Element Text Equal To", () -> assertThatElementTextEqualTo(loginButton, "Log in", "Login Button"));
+    }
+
+    @Benchmark
+    public void elementInnerTextEqualTo(LocalPageState state) {
+        state.step("Assert That Element Inner Text Equal To", () -> assertThatElementInnerTextEqualTo(loginButton, "Log in", "Login Button"));
+    }
+
+    @Benchmark
+    public void inputFieldValueEqualToValue(LocalPageState state) {
+        state.step("Assert That Input field element value equal to expected value",
+                () -> assertThatInputFieldElementValueEqualToValue(passwordField, EMPTY, "Password"));
+    }
+}
@@ -0,0 +1,26 @@
+package benchmarks;
+
+import com.microsoft.playwright.Locator;
+import pages.AbstractBaseSteps;
+
+/**
+ * Exposes {@link AbstractBaseSteps} operations to the benchmarks
+ */
+public class BenchmarkSteps extends AbstractBaseSteps {
+
+    public Locator locate(String locator) {
+        return findElement(locator);
+    }
+
+    public Locator present(String locator) {
+        return waitForPresent(locator);
+    }
+
+    public void fillField(String locator, String text) {
+        fill(locator, text);
+    }
+
+    public void clickElement(String locator) {
+        click(locator);
+    }
+}
@@ -0,0 +1,64 @@
+package benchmarks;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import core.base_config.browser_config.BrowserContextPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Same phases as {@code BaseTest.openFreshBrowserWithPageSiteUrl}, with and without the context pool.
+ * BaseTest itself is bound to the JUnit extension lifecycle, so the phases are driven on the browser session directly.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ContextSetupBenchmark {
+    private static final int VIEWPORT_WIDTH = 1920;
+    private static final int VIEWPORT_HEIGHT = 1080;
+    @Param({"false", "true"})
+    public boolean contextPool;
+    private BrowserContextPool browserContextPool;
+
+    @Setup
+    public void setUp(LocalPageState state) {
+        browserContextPool = state.getBrowserSession().getContextPool();
+        if (contextPool) {
+            browserContextPool.warmUp();
+        }
+    }
+
+    @Benchmark
+    public String openFreshBrowserWithPageSiteUrl(LocalPageState state) {
+        return state.step("Open fresh browser on page", () -> {
+            BrowserContext browserContext = state.step("Create browser context",
+                    () -> contextPool ? browserContextPool.acquire() : state.getBrowserSession().getBrowser().newContext());
+            try {
+                Page page = state.step("Create and configure page", () -> {
+                    Page newPage = browserContext.pages().isEmpty() ? browserContext.newPage() : browserContext.pages().get(0);
+                    newPage.setViewportSize(VIEWPORT_WIDTH, VIEWPORT_HEIGHT);
+                    return newPage;
+                });
+                state.step("Navigate to URL", () -> {
+                    page.navigate(state.getUrl("/login"));
+                    page.waitForLoadState();
+                });
+                return page.url();
+            } finally {
+                if (contextPool) {
+                    browserContextPool.release(browserContext);
+                } else {
+                    browserContext.close();
+                }
+            }
+        });
+    }
+}
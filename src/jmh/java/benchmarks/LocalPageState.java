@@ -0,0 +1,109 @@
+package benchmarks;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import core.base_config.browser_config.BrowserContextHolder;
+import core.base_config.browser_config.BrowserSession;
+import core.mock_server.MockBackendServer;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import lombok.Getter;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.InputStream;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static core.EnvProperties.getBrowserType;
+
+/**
+ * Browser with the mock backend login page opened in it. Playwright objects are bound to the benchmark thread.
+ * The {@code allureSteps} variant wraps every operation into an Allure step of a running test case,
+ * which is what a woven {@code @Step} does, results are discarded instead of being written to disk.
+ */
+@Getter
+@State(Scope.Thread)
+public class LocalPageState {
+    @Param({"false", "true"})
+    public boolean allureSteps;
+    private MockBackendServer mockBackendServer;
+    private BrowserSession browserSession;
+    private BrowserContext browserContext;
+    private Page page;
+    private BenchmarkSteps steps;
+    private String testCaseUuid;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mockBackendServer = MockBackendServer.start(0, 0);
+        browserSession = BrowserSession.launch(getBrowserType());
+        browserContext = browserSession.getBrowser().newContext();
+        BrowserContextHolder.set(browserContext);
+        page = browserContext.newPage();
+        page.navigate(getUrl("/login"));
+        steps = new BenchmarkSteps();
+        Allure.setLifecycle(new AllureLifecycle(new DiscardingResultsWriter()));
+    }
+
+    @Setup(Level.Iteration)
+    public void startTestCase() {
+        if (allureSteps) {
+            testCaseUuid = UUID.randomUUID().toString();
+            Allure.getLifecycle().scheduleTestCase(new TestResult().setUuid(testCaseUuid).setName("benchmark"));
+            Allure.getLifecycle().startTestCase(testCaseUuid);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopTestCase() {
+        if (allureSteps) {
+            Allure.getLifecycle().stopTestCase(testCaseUuid);
+            Allure.getLifecycle().writeTestCase(testCaseUuid);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BrowserContextHolder.remove();
+        browserSession.close();
+        mockBackendServer.close();
+    }
+
+    public String getUrl(String path) {
+        return mockBackendServer.getUrl() + path;
+    }
+
+    public <T> T step(String name, Supplier<T> action) {
+        return allureSteps ? Allure.step(name, action::get) : action.get();
+    }
+
+    public void step(String name, Runnable action) {
+        if (allureSteps) {
+            Allure.step(name, action::run);
+        } else {
+            action.run();
+        }
+    }
+
+    private static class DiscardingResultsWriter implements AllureResultsWriter {
+        @Override
+        public void write(TestResult testResult) {
+        }
+
+        @Override
+        public void write(TestResultContainer testResultContainer) {
+        }
+
+        @Override
+        public void write(String source, InputStream attachment) {
+        }
+    }
+}
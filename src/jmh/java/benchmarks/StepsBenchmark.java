@@ -0,0 +1,37 @@
+package benchmarks;
+
+import com.microsoft.playwright.Locator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+import static locator_templates.LocatorTemplate.getLocatorByDataAttribute;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StepsBenchmark {
+    private static final String usernameField = getLocatorByDataAttribute("customer-username-input");
+
+    @Benchmark
+    public Locator findElement(LocalPageState state) {
+        return state.step("Find Element by Locator", () -> state.getSteps().locate(usernameField));
+    }
+
+    @Benchmark
+    public Locator waitForPresent(LocalPageState state) {
+        return state.step("Wait for element to be present", () -> state.getSteps().present(usernameField));
+    }
+
+    @Benchmark
+    public void fill(LocalPageState state) {
+        state.step("Fill field", () -> state.getSteps().fillField(usernameField, "MrBeast@gmail.com"));
+    }
+
+    @Benchmark
+    public void click(LocalPageState state) {
+        state.step("Click Element", () -> state.getSteps().clickElement(usernameField));
+    }
+}
@@ -0,0 +1,29 @@
+package annotations.common;
+
+import core.auth.LoginFlow;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Tests of the annotated class start in a browser context that is already logged in.
+ * The login, including two-factor verification, is performed once per credential set,
+ * the storage state is cached on disk for {@link #ttlMinutes()}.
+ * The login is done by {@link #loginFlow()}; it has no default, so the login pages are dependencies of the annotated
+ * classes only.
+ */
+@Inherited
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface LoggedIn {
+
+    String username();
+    String password();
+    String twoFactorCode();
+    Class<? extends LoginFlow> loginFlow();
+    long ttlMinutes() default 30;
+}
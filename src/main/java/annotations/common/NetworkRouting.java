@@ -0,0 +1,21 @@
+package annotations.common;
+
+import enums.config.RoutingProfile;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Network routing profile for browser contexts of the annotated test class, overrides ROUTING_PROFILE.
+ */
+@Inherited
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface NetworkRouting {
+
+    RoutingProfile value();
+}
@@ -0,0 +1,22 @@
+package annotations.common;
+
+import enums.config.ReadinessStrategy;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+
+/**
+ * Signal which proves that the annotated page is usable after navigation, pages without it wait for LOAD.
+ */
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface PageReadiness {
+
+    ReadinessStrategy strategy();
+    String selector() default EMPTY;
+    String predicate() default EMPTY;
+}
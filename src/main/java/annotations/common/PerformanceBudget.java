@@ -0,0 +1,24 @@
+package annotations.common;
+
+import enums.config.BudgetMode;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Limits of browser-side performance of the page navigation, checked after the page is opened by BaseTest.
+ * Limits left at {@link #UNLIMITED} are not checked.
+ */
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface PerformanceBudget {
+    long UNLIMITED = -1;
+
+    long maxDomContentLoadedMs() default UNLIMITED;
+    long maxTransferSizeKb() default UNLIMITED;
+    long maxRequestCount() default UNLIMITED;
+    BudgetMode mode() default BudgetMode.FAIL;
+}
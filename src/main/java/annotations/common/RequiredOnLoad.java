@@ -0,0 +1,16 @@
+package annotations.common;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks a selector field of a page object which must resolve as soon as the page is ready.
+ * Such selectors are verified by {@link locator_templates.SelectorRegistry#verifyRequiredOnLoad}.
+ */
+@Retention(RUNTIME)
+@Target(FIELD)
+public @interface RequiredOnLoad {
+}
@@ -0,0 +1,29 @@
+package annotations.common;
+
+import core.retry.RetryExtension;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Parameterized test which is retried like {@link RetryingTest}, separately for every argument set.
+ * Arguments come from the static factory method named by {@code @MethodSource} in the test class.
+ * See {@link RetryExtension}.
+ */
+@Retention(RUNTIME)
+@Target(METHOD)
+@TestTemplate
+@ExtendWith(RetryExtension.class)
+public @interface RetryingParameterizedTest {
+
+    /**
+     * Display name of an argument set: {index} is replaced by its index (starting at 1), {arguments} by all arguments
+     * and {0}, {1}... by a single argument
+     */
+    String name() default "[{index}] {arguments}";
+}
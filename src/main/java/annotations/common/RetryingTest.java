@@ -0,0 +1,22 @@
+package annotations.common;
+
+import core.retry.RetryExtension;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Test which is retried up to RETRY_COUNT times when it fails, every attempt is a separate invocation
+ * with its own {@code @BeforeEach} and {@code @AfterEach}. See {@link RetryExtension}.
+ */
+@Retention(RUNTIME)
+@Target(METHOD)
+@TestTemplate
+@ExtendWith(RetryExtension.class)
+public @interface RetryingTest {
+}
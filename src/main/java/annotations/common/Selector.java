@@ -0,0 +1,16 @@
+package annotations.common;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks a static String field of a page object as a selector, only marked fields are collected and validated
+ * by {@link locator_templates.SelectorRegistry}. Fields marked {@link RequiredOnLoad} are selectors as well.
+ */
+@Retention(RUNTIME)
+@Target(FIELD)
+public @interface Selector {
+}
@@ -0,0 +1,36 @@
+package assertions;
+
+import java.util.concurrent.TimeUnit;
+
+import static core.EnvProperties.getAssertionTimeoutBudgetMillis;
+
+/**
+ * Timeout budget shared by the web-first assertions of a single test, reset for every test by
+ * {@link core.listeners.AssertionTimeoutBudgetListener}.
+ * Every assertion waits at most for the remaining budget. An assertion which is met on its first check doesn't wait,
+ * only the time of assertions which had to wait is taken from the budget.
+ */
+public class AssertionTimeoutBudget {
+    // Playwright treats zero timeout as no timeout, an exhausted budget still allows a single check
+    private static final long MIN_TIMEOUT_MILLIS = 1;
+    private static final ThreadLocal<AssertionTimeoutBudget> BUDGETS =
+            ThreadLocal.withInitial(() -> new AssertionTimeoutBudget(getAssertionTimeoutBudgetMillis()));
+    private long remainingNanos;
+
+    private AssertionTimeoutBudget(long budgetMillis) {
+        this.remainingNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+    }
+
+    public static void reset() {
+        BUDGETS.set(new AssertionTimeoutBudget(getAssertionTimeoutBudgetMillis()));
+    }
+
+    public static long getRemainingMillis() {
+        return Math.max(MIN_TIMEOUT_MILLIS, TimeUnit.NANOSECONDS.toMillis(BUDGETS.get().remainingNanos));
+    }
+
+    public static void consume(long nanos) {
+        var budget = BUDGETS.get();
+        budget.remainingNanos = Math.max(0, budget.remainingNanos - nanos);
+    }
+}
@@ -1,6 +1,7 @@
 package assertions;
 
 import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
 import io.qameta.allure.Step;
 
 import static java.lang.String.format;
@@ -8,6 +9,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 public class CustomAssertions {
 
+    /**
+     * Start a batch of element assertions which are verified in a single browser round trip
+     *
+     * @param page page with the elements
+     * @return batch to collect expectations, verified by {@link ElementBatchAssertions#assertAll()}
+     */
+    public static ElementBatchAssertions assertThatElements(Page page) {
+        return new ElementBatchAssertions(page);
+    }
+
     @Step("Assert that value {0} is equal to value {1}")
     public static void assertThatValueEqualToValue(Object actual, Object expected, String description) {
         assertThat(actual)
@@ -0,0 +1,131 @@
+package assertions;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.TimeoutError;
+import core.metrics.WaitMetrics;
+import io.qameta.allure.Step;
+import org.assertj.core.api.SoftAssertions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Collects element expectations and verifies all of them in a single browser round trip.
+ * Expectations are checked once with {@code page.evaluate}; if they are not met yet, they are awaited together with
+ * {@code page.waitForFunction} within the remaining {@link AssertionTimeoutBudget} of the test (or an explicit timeout),
+ * only this wait is charged to the budget. When the timeout is over
+ * actual values are read with one {@code page.evaluate} and every mismatch is reported at once.
+ * Selectors are CSS or XPath (starting with '//' or '('), Playwright specific selectors are not supported.
+ */
+public class ElementBatchAssertions {
+    private static final String RESOLVE_FUNCTION = """
+            (e) => {
+                const selector = e.selector.replace(/^(css|xpath)=/, '');
+                const element = selector.startsWith('//') || selector.startsWith('(')
+                    ? document.evaluate(selector, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue
+                    : document.querySelector(selector);
+                if (!element) {
+                    return e.kind === 'VISIBLE' ? 'false' : null;
+                }
+                switch (e.kind) {
+                    case 'VISIBLE': {
+                        const rect = element.getBoundingClientRect();
+                        return String(rect.width > 0 && rect.height > 0 && getComputedStyle(element).visibility !== 'hidden');
+                    }
+                    case 'TEXT': return (element.textContent || '').trim();
+                    case 'INNER_TEXT': return (element.innerText || '').replace(/\\s+/g, ' ').trim();
+                    case 'INPUT_VALUE': return (element.value || '').trim();
+                }
+            }""";
+    private static final String EVALUATE_SCRIPT = format("(expectations) => expectations.map(%s)", RESOLVE_FUNCTION);
+    private static final String WAIT_SCRIPT = format("(expectations) => expectations.every(e => (%s)(e) === e.expected)", RESOLVE_FUNCTION);
+    private final Page page;
+    private final List<Expectation> expectations = new ArrayList<>();
+    private Double timeout;
+
+    ElementBatchAssertions(Page page) {
+        this.page = page;
+    }
+
+    public ElementBatchAssertions visible(String selector, boolean isVisible, String description) {
+        var assertMessage = isVisible ? format("%s should be Visible", description)
+                : format("%s should not be Visible", description);
+        return expect(selector, Kind.VISIBLE, String.valueOf(isVisible), assertMessage);
+    }
+
+    public ElementBatchAssertions text(String selector, String expectedValue, String description) {
+        return expect(selector, Kind.TEXT, expectedValue, format("%s should be equal expected value %s", description, expectedValue));
+    }
+
+    public ElementBatchAssertions innerText(String selector, String expectedValue, String description) {
+        var normalizedValue = expectedValue.replaceAll("\\r?\\n", " ").replaceAll("\\s+", " ").trim();
+        return expect(selector, Kind.INNER_TEXT, normalizedValue, format("%s should be equal expected value %s", description, expectedValue));
+    }
+
+    public ElementBatchAssertions inputValue(String selector, String expectedValue, String description) {
+        return expect(selector, Kind.INPUT_VALUE, expectedValue, format("%s input field value should be equal expected", description));
+    }
+
+    public ElementBatchAssertions withTimeout(double timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    @Step("Assert that all element expectations are met")
+    public void assertAll() {
+        if (expectations.isEmpty()) {
+            return;
+        }
+        var arguments = expectations.stream().map(Expectation::toArgument).toList();
+        long start = System.nanoTime();
+        if (Boolean.TRUE.equals(page.evaluate(WAIT_SCRIPT, arguments))) {
+            WaitMetrics.record(WaitMetrics.WEB_FIRST_ASSERTION, System.nanoTime() - start, false);
+            return;
+        }
+        double waitTimeout = timeout != null ? timeout : AssertionTimeoutBudget.getRemainingMillis();
+        long waitStart = System.nanoTime();
+        boolean failed = false;
+        try {
+            page.waitForFunction(WAIT_SCRIPT, arguments, new Page.WaitForFunctionOptions().setTimeout(waitTimeout));
+        } catch (TimeoutError e) {
+            failed = true;
+            reportMismatches((List<?>) page.evaluate(EVALUATE_SCRIPT, arguments));
+        } finally {
+            long now = System.nanoTime();
+            AssertionTimeoutBudget.consume(now - waitStart);
+            WaitMetrics.record(WaitMetrics.WEB_FIRST_ASSERTION, now - start, failed);
+        }
+    }
+
+    private ElementBatchAssertions expect(String selector, Kind kind, String expected, String description) {
+        expectations.add(new Expectation(selector, kind, expected, description));
+        return this;
+    }
+
+    private void reportMismatches(List<?> actualValues) {
+        var softAssertions = new SoftAssertions();
+        for (int i = 0; i < expectations.size(); i++) {
+            var expectation = expectations.get(i);
+            softAssertions.assertThat(actualValues.get(i))
+                    .as(format("%s [%s]", expectation.description(), expectation.selector()))
+                    .isEqualTo(expectation.expected());
+        }
+        softAssertions.assertAll();
+    }
+
+    private enum Kind {
+        VISIBLE,
+        TEXT,
+        INNER_TEXT,
+        INPUT_VALUE
+    }
+
+    private record Expectation(String selector, Kind kind, String expected, String description) {
+        Map<String, String> toArgument() {
+            return Map.of("selector", selector, "kind", kind.name(), "expected", expected);
+        }
+    }
+}
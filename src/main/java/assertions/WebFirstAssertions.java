@@ -0,0 +1,90 @@
+package assertions;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.assertions.LocatorAssertions;
+import core.metrics.WaitMetrics;
+import io.qameta.allure.Step;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.function.DoubleConsumer;
+
+import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
+import static java.lang.String.format;
+
+/**
+ * Auto-retrying assertions built on {@link com.microsoft.playwright.assertions.PlaywrightAssertions}.
+ * The expected state is awaited within the remaining {@link AssertionTimeoutBudget} of the test,
+ * so no waiting for the element is needed before the assertion. Every assertion is checked once first
+ * (Playwright performs one check even with a minimal timeout), only the wait after a failed first check is charged
+ * to the budget.
+ */
+public class WebFirstAssertions {
+    private static final double SINGLE_CHECK_TIMEOUT = 1;
+
+    @Step("Assert That Element {0} Is Visible {1} with description {2}")
+    public static void assertThatElementIsVisible(Locator locator, boolean isVisible, String description) {
+        var assertMessage = isVisible ? format("%s should be Visible", description)
+                : format("%s should not be Visible", description);
+
+        verify(assertMessage, timeout -> {
+            if (isVisible) {
+                assertThat(locator).isVisible(new LocatorAssertions.IsVisibleOptions().setTimeout(timeout));
+            } else {
+                assertThat(locator).isHidden(new LocatorAssertions.IsHiddenOptions().setTimeout(timeout));
+            }
+        });
+    }
+
+    @Step("Assert That Element {0} Text Equal To {1} with description {2}")
+    public static void assertThatElementTextEqualTo(Locator locator, String expectedValue, String description) {
+        verify(format("%s should be equal expected value %s", description, expectedValue), timeout ->
+                assertThat(locator).hasText(expectedValue, new LocatorAssertions.HasTextOptions().setTimeout(timeout)));
+    }
+
+    @Step("Assert That Element {0} Inner Text Equal To {1} with description {2}")
+    public static void assertThatElementInnerTextEqualTo(Locator locator, String expectedValue, String description) {
+        verify(format("%s should be equal expected value %s", description, expectedValue), timeout ->
+                assertThat(locator).hasText(expectedValue, new LocatorAssertions.HasTextOptions()
+                        .setUseInnerText(true)
+                        .setTimeout(timeout)));
+    }
+
+    @Step("Assert That Input field element {0} value equal to expected value {1} with description {2}")
+    public static void assertThatInputFieldElementValueEqualToValue(Locator locator, String expectedValue, String description) {
+        verify(format("%s input field value should be equal expected", description), timeout ->
+                assertThat(locator).hasValue(expectedValue, new LocatorAssertions.HasValueOptions().setTimeout(timeout)));
+    }
+
+    private static void verify(String description, DoubleConsumer assertion) {
+        long start = System.nanoTime();
+        try {
+            assertion.accept(SINGLE_CHECK_TIMEOUT);
+            WaitMetrics.record(WaitMetrics.WEB_FIRST_ASSERTION, System.nanoTime() - start, false);
+            return;
+        } catch (AssertionFailedError e) {
+            // Not met yet, wait for it within the budget
+        }
+        long waitStart = System.nanoTime();
+        boolean failed = false;
+        try {
+            assertion.accept(AssertionTimeoutBudget.getRemainingMillis());
+        } catch (AssertionFailedError e) {
+            failed = true;
+            throw withDescription(description, e);
+        } finally {
+            long now = System.nanoTime();
+            AssertionTimeoutBudget.consume(now - waitStart);
+            WaitMetrics.record(WaitMetrics.WEB_FIRST_ASSERTION, now - start, failed);
+        }
+    }
+
+    private static AssertionFailedError withDescription(String description, AssertionFailedError e) {
+        var message = format("[%s] %s", description, e.getMessage());
+        if (e.isExpectedDefined() || e.isActualDefined()) {
+            return new AssertionFailedError(message,
+                    e.isExpectedDefined() ? e.getExpected().getValue() : null,
+                    e.isActualDefined() ? e.getActual().getValue() : null, e);
+        }
+        return new AssertionFailedError(message, e);
+    }
+}
@@ -1,8 +1,16 @@
 package core;
 
+import com.microsoft.playwright.options.HarNotFound;
+import com.microsoft.playwright.options.ScreenshotType;
 import enums.config.BrowserType;
+import enums.config.HarRoutingMode;
+import enums.config.TestLane;
+import enums.config.RoutingProfile;
 import enums.config.ViewportPreset;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 import static java.lang.Integer.parseInt;
 import static java.util.Optional.ofNullable;
 
@@ -13,6 +21,47 @@ public class EnvProperties {
     private static final String VIEWPORT_WIDTH = "VIEWPORT_WIDTH";
     private static final String VIEWPORT_HEIGHT = "VIEWPORT_HEIGHT";
     private static final String THREAD_COUNT = "THREAD_COUNT";
+    private static final String BROWSER_POOL = "BROWSER_POOL";
+    private static final String CONTEXT_POOL = "CONTEXT_POOL";
+    private static final String CONTEXT_POOL_SIZE = "CONTEXT_POOL_SIZE";
+    private static final String ENV = "ENV";
+    private static final String STORAGE_STATE_REFRESH = "STORAGE_STATE_REFRESH";
+    private static final String ROUTING_PROFILE = "ROUTING_PROFILE";
+    private static final String STATIC_CACHE_MAX_MB = "STATIC_CACHE_MAX_MB";
+    private static final String STATIC_CACHE_TTL_SECONDS = "STATIC_CACHE_TTL_SECONDS";
+    private static final String STEP_TIMINGS = "STEP_TIMINGS";
+    private static final String SLOW_STEP_THRESHOLD_MS = "SLOW_STEP_THRESHOLD_MS";
+    private static final String TEST_HISTORY_DIR = "TEST_HISTORY_DIR";
+    private static final String RUN_HISTORY_SIZE = "RUN_HISTORY_SIZE";
+    private static final String RUN_HISTORY_FILE = "RUN_HISTORY_FILE";
+    private static final String SHARD_INDEX = "SHARD_INDEX";
+    private static final String SHARD_TOTAL = "SHARD_TOTAL";
+    private static final String SCREENSHOT_TYPE = "SCREENSHOT_TYPE";
+    private static final String SCREENSHOT_QUALITY = "SCREENSHOT_QUALITY";
+    private static final String SCREENSHOT_FULL_PAGE = "SCREENSHOT_FULL_PAGE";
+    private static final String ARTIFACT_THREADS = "ARTIFACT_THREADS";
+    private static final String ARTIFACT_QUEUE_SIZE = "ARTIFACT_QUEUE_SIZE";
+    private static final String TRACING = "TRACING";
+    private static final String TRACE_MAX_DISK_MB = "TRACE_MAX_DISK_MB";
+    private static final String MOCK_BACKEND = "MOCK_BACKEND";
+    private static final String MOCK_BACKEND_PORT = "MOCK_BACKEND_PORT";
+    private static final String MOCK_LATENCY_MS = "MOCK_LATENCY_MS";
+    private static final String HAR_MODE = "HAR_MODE";
+    private static final String HAR_NOT_FOUND = "HAR_NOT_FOUND";
+    private static final String HAR_DIR = "HAR_DIR";
+    private static final String ASSERTION_TIMEOUT_BUDGET_MS = "ASSERTION_TIMEOUT_BUDGET_MS";
+    private static final String SELECTOR_CHECK = "SELECTOR_CHECK";
+    private static final String NAVIGATION_METRICS = "NAVIGATION_METRICS";
+    private static final String BROWSER_SLOTS = "BROWSER_SLOTS";
+    private static final String PARALLELISM_STRATEGY = "PARALLELISM_STRATEGY";
+    private static final String ADAPTIVE_MAX_THREADS = "ADAPTIVE_MAX_THREADS";
+    private static final String ADAPTIVE_INTERVAL_SECONDS = "ADAPTIVE_INTERVAL_SECONDS";
+    private static final String ADAPTIVE_MEMORY_RESERVE_MB = "ADAPTIVE_MEMORY_RESERVE_MB";
+    private static final String RETRY_COUNT = "RETRY_COUNT";
+    private static final String TEST_LANE = "TEST_LANE";
+    private static final String FLAKY_QUARANTINE_PERCENT = "FLAKY_QUARANTINE_PERCENT";
+    private static final String FLAKY_MIN_RUNS = "FLAKY_MIN_RUNS";
+    private static final String IMPACTED_SINCE = "IMPACTED_SINCE";
 
     public static String getSystemProperty(String name) {
         return ofNullable(System.getProperty(name))
@@ -73,4 +122,214 @@ public class EnvProperties {
         }
         return 1;
     }
+
+    public static boolean isBrowserPoolEnabled() {
+        return getBooleanProperty(BROWSER_POOL, false);
+    }
+
+    public static boolean isContextPoolEnabled() {
+        return getBooleanProperty(CONTEXT_POOL, false);
+    }
+
+    public static int getContextPoolSize() {
+        return getIntProperty(CONTEXT_POOL_SIZE, 1);
+    }
+
+    public static String getEnvironment() {
+        return getProperty(ENV, "dev");
+    }
+
+    public static boolean isStorageStateRefresh() {
+        return getBooleanProperty(STORAGE_STATE_REFRESH, false);
+    }
+
+    public static RoutingProfile getRoutingProfile() {
+        try {
+            return RoutingProfile.valueOf(getProperty(ROUTING_PROFILE, RoutingProfile.NONE.name()).toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return RoutingProfile.NONE;
+        }
+    }
+
+    public static long getStaticCacheMaxMegabytes() {
+        return Math.max(1, getIntProperty(STATIC_CACHE_MAX_MB, 100));
+    }
+
+    public static long getStaticCacheTtlSeconds() {
+        return Math.max(1, getIntProperty(STATIC_CACHE_TTL_SECONDS, 600));
+    }
+
+    public static boolean isStepTimingsEnabled() {
+        return getBooleanProperty(STEP_TIMINGS, true);
+    }
+
+    public static long getSlowStepThresholdMillis() {
+        return getIntProperty(SLOW_STEP_THRESHOLD_MS, 5000);
+    }
+
+    public static Path getTestHistoryDir() {
+        return Paths.get(getProperty(TEST_HISTORY_DIR, "build/test-history"));
+    }
+
+    public static int getRunHistorySize() {
+        return Math.max(2, getIntProperty(RUN_HISTORY_SIZE, 11));
+    }
+
+    public static String getRunHistoryFile() {
+        return getProperty(RUN_HISTORY_FILE, "runs.jsonl");
+    }
+
+    public static int getShardTotal() {
+        return Math.max(1, getIntProperty(SHARD_TOTAL, 1));
+    }
+
+    public static int getShardIndex() {
+        int shardIndex = getIntProperty(SHARD_INDEX, 0);
+        if (shardIndex < 0 || shardIndex >= getShardTotal()) {
+            throw new IllegalArgumentException(String.format("%s must be in range [0, %s), but was: %s", SHARD_INDEX, getShardTotal(), shardIndex));
+        }
+        return shardIndex;
+    }
+
+    public static ScreenshotType getScreenshotType() {
+        try {
+            return ScreenshotType.valueOf(getProperty(SCREENSHOT_TYPE, ScreenshotType.PNG.name()).toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ScreenshotType.PNG;
+        }
+    }
+
+    public static int getScreenshotQuality() {
+        return Math.min(100, Math.max(0, getIntProperty(SCREENSHOT_QUALITY, 80)));
+    }
+
+    public static boolean isScreenshotFullPage() {
+        return getBooleanProperty(SCREENSHOT_FULL_PAGE, true);
+    }
+
+    public static int getArtifactThreads() {
+        return Math.max(1, getIntProperty(ARTIFACT_THREADS, 2));
+    }
+
+    public static int getArtifactQueueSize() {
+        return Math.max(1, getIntProperty(ARTIFACT_QUEUE_SIZE, 16));
+    }
+
+    public static boolean isTracingEnabled() {
+        return getBooleanProperty(TRACING, false);
+    }
+
+    public static long getTraceMaxDiskMegabytes() {
+        return Math.max(1, getIntProperty(TRACE_MAX_DISK_MB, 500));
+    }
+
+    public static boolean isMockBackendEnabled() {
+        return getBooleanProperty(MOCK_BACKEND, false);
+    }
+
+    public static int getMockBackendPort() {
+        return getIntProperty(MOCK_BACKEND_PORT, 0);
+    }
+
+    public static long getMockLatencyMillis() {
+        return Math.max(0, getIntProperty(MOCK_LATENCY_MS, 0));
+    }
+
+    public static HarRoutingMode getHarRoutingMode() {
+        try {
+            return HarRoutingMode.valueOf(getProperty(HAR_MODE, HarRoutingMode.OFF.name()).toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return HarRoutingMode.OFF;
+        }
+    }
+
+    public static HarNotFound getHarNotFound() {
+        try {
+            return HarNotFound.valueOf(getProperty(HAR_NOT_FOUND, HarNotFound.FALLBACK.name()).toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return HarNotFound.FALLBACK;
+        }
+    }
+
+    public static Path getHarDir() {
+        return Paths.get(getProperty(HAR_DIR, "src/test/resources/har"));
+    }
+
+    public static long getAssertionTimeoutBudgetMillis() {
+        return Math.max(1, getIntProperty(ASSERTION_TIMEOUT_BUDGET_MS, 20000));
+    }
+
+    public static boolean isSelectorCheckEnabled() {
+        return getBooleanProperty(SELECTOR_CHECK, false);
+    }
+
+    public static int getBrowserSlots() {
+        return Math.max(1, getIntProperty(BROWSER_SLOTS, Runtime.getRuntime().availableProcessors()));
+    }
+
+    public static boolean isAdaptiveParallelism() {
+        return "ADAPTIVE".equalsIgnoreCase(getProperty(PARALLELISM_STRATEGY, "FIXED"));
+    }
+
+    public static int getAdaptiveMaxThreads() {
+        return Math.max(1, getIntProperty(ADAPTIVE_MAX_THREADS, Runtime.getRuntime().availableProcessors() * 2));
+    }
+
+    public static int getAdaptiveIntervalSeconds() {
+        return Math.max(1, getIntProperty(ADAPTIVE_INTERVAL_SECONDS, 10));
+    }
+
+    public static long getAdaptiveMemoryReserveMegabytes() {
+        return Math.max(0, getIntProperty(ADAPTIVE_MEMORY_RESERVE_MB, 1024));
+    }
+
+    public static int getRetryCount() {
+        return Math.max(0, getIntProperty(RETRY_COUNT, 0));
+    }
+
+    public static TestLane getTestLane() {
+        try {
+            return TestLane.valueOf(getProperty(TEST_LANE, TestLane.ALL.name()).toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return TestLane.ALL;
+        }
+    }
+
+    public static int getFlakyQuarantinePercent() {
+        return Math.min(100, Math.max(1, getIntProperty(FLAKY_QUARANTINE_PERCENT, 30)));
+    }
+
+    public static int getFlakyMinRuns() {
+        return Math.max(1, getIntProperty(FLAKY_MIN_RUNS, 5));
+    }
+
+    /**
+     * Git ref for impacted test selection, empty when all tests run
+     */
+    public static String getImpactedSince() {
+        return getProperty(IMPACTED_SINCE, "");
+    }
+
+    public static boolean isNavigationMetricsEnabled() {
+        return getBooleanProperty(NAVIGATION_METRICS, true);
+    }
+
+    private static String getProperty(String name, String defaultValue) {
+        return ofNullable(System.getProperty(name))
+                .or(() -> ofNullable(System.getenv(name)))
+                .filter(value -> !value.isBlank())
+                .orElse(defaultValue);
+    }
+
+    private static boolean getBooleanProperty(String name, boolean defaultValue) {
+        return Boolean.parseBoolean(getProperty(name, String.valueOf(defaultValue)));
+    }
+
+    private static int getIntProperty(String name, int defaultValue) {
+        try {
+            return parseInt(getProperty(name, String.valueOf(defaultValue)));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
 }
@@ -0,0 +1,68 @@
+package core.artifacts;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.ScreenshotType;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static core.EnvProperties.getArtifactQueueSize;
+import static core.EnvProperties.getArtifactThreads;
+import static core.EnvProperties.getScreenshotQuality;
+import static core.EnvProperties.getScreenshotType;
+import static core.EnvProperties.isScreenshotFullPage;
+import static java.lang.String.format;
+
+/**
+ * Writes failure artifacts to Allure on a bounded background executor.
+ * Only the capture itself runs on the test thread (Playwright pages are confined to it and the image is encoded by
+ * the browser); the attachment is registered in the current test right away and its content is written later.
+ * When the queue is full the test thread writes the attachment itself. The pipeline is kept in the root store,
+ * so pending attachments are drained when the test run ends, before the Allure results are used.
+ */
+public class ArtifactPipeline implements ExtensionContext.Store.CloseableResource {
+    private static final int SHUTDOWN_TIMEOUT_SECONDS = 60;
+    private final Logger logger = Logger.getLogger(this.getClass().getName());
+    private final AtomicInteger threadCounter = new AtomicInteger();
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(getArtifactThreads(), getArtifactThreads(),
+            0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(getArtifactQueueSize()), runnable -> {
+        Thread thread = new Thread(runnable, "artifact-writer-" + threadCounter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }, new ThreadPoolExecutor.CallerRunsPolicy());
+
+    public void attachScreenshot(Page page, String name) {
+        var screenshotType = getScreenshotType();
+        var options = new Page.ScreenshotOptions()
+                .setFullPage(isScreenshotFullPage())
+                .setType(screenshotType);
+        if (screenshotType == ScreenshotType.JPEG) {
+            options.setQuality(getScreenshotQuality());
+        }
+        byte[] screenshot = page.screenshot(options);
+        var extension = screenshotType == ScreenshotType.JPEG ? "jpg" : "png";
+        attach(name, "image/" + (screenshotType == ScreenshotType.JPEG ? "jpeg" : "png"), extension, screenshot);
+    }
+
+    public void attach(String name, String mimeType, String extension, byte[] content) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String source = lifecycle.prepareAttachment(name, mimeType, extension);
+        executor.execute(() -> lifecycle.writeAttachment(source, new ByteArrayInputStream(content)));
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            logger.warning(format("%s artifacts were not written in %s seconds", executor.getQueue().size(), SHUTDOWN_TIMEOUT_SECONDS));
+            executor.shutdownNow();
+        }
+    }
+}
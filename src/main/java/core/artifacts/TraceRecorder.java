@@ -0,0 +1,95 @@
+package core.artifacts;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Tracing;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static core.EnvProperties.getTraceMaxDiskMegabytes;
+import static java.lang.String.format;
+
+/**
+ * Records Playwright traces of every test and keeps the zip only for failed tests.
+ * Total size of kept traces is capped, the oldest traces are removed first.
+ */
+public class TraceRecorder {
+    private static final Logger logger = Logger.getLogger(TraceRecorder.class.getName());
+    private static final Path TRACE_DIR = Paths.get("build", "traces");
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final long BYTES_IN_MEGABYTE = 1024 * 1024;
+
+    public static void start(BrowserContext browserContext) {
+        browserContext.tracing().start(new Tracing.StartOptions()
+                .setScreenshots(true)
+                .setSnapshots(true)
+                .setSources(true));
+    }
+
+    /**
+     * Stop tracing of the context
+     *
+     * @param browserContext traced context
+     * @param testName       name of the test used as file name
+     * @param keep           whether trace should be saved
+     * @return path of saved trace.
+     */
+    public static Optional<Path> stop(BrowserContext browserContext, String testName, boolean keep) {
+        if (!keep) {
+            browserContext.tracing().stop();
+            return Optional.empty();
+        }
+        var tracePath = TRACE_DIR.resolve(format("%s-%s.zip",
+                testName.replaceAll("[^A-Za-z0-9._-]", "_"), LocalDateTime.now().format(TIMESTAMP_FORMAT)));
+        browserContext.tracing().stop(new Tracing.StopOptions().setPath(tracePath));
+        enforceRetention();
+        return Optional.of(tracePath);
+    }
+
+    private static synchronized void enforceRetention() {
+        var maxBytes = getTraceMaxDiskMegabytes() * BYTES_IN_MEGABYTE;
+        try (Stream<Path> files = Files.list(TRACE_DIR)) {
+            List<Path> traces = files
+                    .filter(path -> path.toString().endsWith(".zip"))
+                    .sorted(Comparator.comparingLong(TraceRecorder::lastModified))
+                    .toList();
+            var totalBytes = traces.stream().mapToLong(TraceRecorder::size).sum();
+            for (Path trace : traces) {
+                if (totalBytes <= maxBytes) {
+                    break;
+                }
+                totalBytes -= size(trace);
+                Files.deleteIfExists(trace);
+                logger.info(format("Trace %s removed by retention policy", trace.getFileName()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(format("Retention policy can't be applied to %s", TRACE_DIR), e);
+        }
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
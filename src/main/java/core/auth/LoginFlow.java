@@ -0,0 +1,26 @@
+package core.auth;
+
+import annotations.common.LoggedIn;
+import com.microsoft.playwright.Page;
+import pages.AbstractBaseSteps;
+
+/**
+ * UI login performed for {@link LoggedIn} test classes before their storage state is saved.
+ * The flow is named by the annotation of the test class, so the login pages are dependencies of the logged in
+ * test classes only, not of every test class through BaseTest (see ImpactedTestFilter).
+ */
+public interface LoginFlow {
+
+    /**
+     * @return page the login starts on, a logged in context redirected to it has an expired session
+     */
+    Class<? extends AbstractBaseSteps> getLoginPageClass();
+
+    /**
+     * Log in on the login page, which is already open, and return once the session is authenticated
+     *
+     * @param page     page showing the login page
+     * @param loggedIn credentials of the user
+     */
+    void logIn(Page page, LoggedIn loggedIn);
+}
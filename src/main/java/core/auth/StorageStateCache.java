@@ -0,0 +1,109 @@
+package core.auth;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import static core.EnvProperties.getEnvironment;
+import static core.EnvProperties.isStorageStateRefresh;
+import static java.lang.String.format;
+
+/**
+ * Disk cache of Playwright storage states of logged-in users, keyed by environment and a hash of the credentials,
+ * so a changed password never reuses the state of the old one.
+ */
+public class StorageStateCache {
+    private static final Logger logger = Logger.getLogger(StorageStateCache.class.getName());
+    private static final Path STORAGE_STATE_DIR = Paths.get("build", "storage-state");
+    private static final int CREDENTIALS_HASH_LENGTH = 16;
+    private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+    private static final Set<String> REFRESHED_USERS = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Get storage state of the user, login is performed only if there is no valid cached state.
+     * A failed login leaves no state behind.
+     *
+     * @param username user to log in
+     * @param password password of the user
+     * @param ttl      time to live of the cached state
+     * @param login    action which logs in and saves storage state to the given path
+     * @return path to storage state file.
+     */
+    public static Path getOrCreate(String username, String password, Duration ttl, Consumer<Path> login) {
+        Path storageStatePath = getStorageStatePath(username, password);
+        synchronized (LOCKS.computeIfAbsent(storageStatePath.toString(), key -> new Object())) {
+            if (isStorageStateRefresh() && REFRESHED_USERS.add(storageStatePath.toString())) {
+                invalidate(username, password);
+            }
+            if (isValid(storageStatePath, ttl)) {
+                return storageStatePath;
+            }
+            logger.info(format("Storage state of user %s is missing or expired, logging in", username));
+            createDirectories(storageStatePath.getParent());
+            try {
+                login.accept(storageStatePath);
+            } catch (RuntimeException | AssertionError e) {
+                invalidate(username, password);
+                throw e;
+            }
+            return storageStatePath;
+        }
+    }
+
+    public static void invalidate(String username, String password) {
+        try {
+            Files.deleteIfExists(getStorageStatePath(username, password));
+        } catch (IOException e) {
+            throw new UncheckedIOException(format("Storage state of user %s can't be deleted", username), e);
+        }
+    }
+
+    static Path getStorageStatePath(String username, String password) {
+        return STORAGE_STATE_DIR
+                .resolve(getEnvironment())
+                .resolve(format("%s-%s.json", username.replaceAll("[^A-Za-z0-9._-]", "_"), hashCredentials(username, password)));
+    }
+
+    static boolean isValid(Path storageStatePath, Duration ttl) {
+        if (!Files.exists(storageStatePath)) {
+            return false;
+        }
+        try {
+            var lastModified = Files.getLastModifiedTime(storageStatePath).toInstant();
+            return lastModified.plus(ttl).isAfter(Instant.now());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static String hashCredentials(String username, String password) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256")
+                    .digest((username + '\n' + password).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest).substring(0, CREDENTIALS_HASH_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void createDirectories(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(format("Directory %s can't be created", directory), e);
+        }
+    }
+}
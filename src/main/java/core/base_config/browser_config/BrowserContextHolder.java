@@ -1,9 +1,11 @@
 package core.base_config.browser_config;
 
 import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
 
 public class BrowserContextHolder {
     private static final ThreadLocal<BrowserContext> BROWSER_CONTEXTS = new ThreadLocal<>();
+    private static final ThreadLocal<Page> ACTIVE_PAGES = new ThreadLocal<>();
 
     public static BrowserContext get() {
         return BROWSER_CONTEXTS.get();
@@ -15,6 +17,21 @@ public class BrowserContextHolder {
 
     public static void remove() {
         BROWSER_CONTEXTS.remove();
+        ACTIVE_PAGES.remove();
+    }
+
+    /**
+     * Page used by new page objects instead of the last page of the context, set while pages are fanned out
+     */
+    public static Page getActivePage() {
+        return ACTIVE_PAGES.get();
     }
-}
 
+    public static void setActivePage(Page page) {
+        ACTIVE_PAGES.set(page);
+    }
+
+    public static void removeActivePage() {
+        ACTIVE_PAGES.remove();
+    }
+}
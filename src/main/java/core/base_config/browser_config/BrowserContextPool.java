@@ -0,0 +1,177 @@
+package core.base_config.browser_config;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Pool of warm browser contexts of a single browser. Every context keeps one open page.
+ * Playwright objects are not thread safe, so the pool is warmed up and used by the thread that owns the browser.
+ * Storage can only be wiped from a page of its origin, so a context is reused only while all its frames stayed
+ * on one origin and its first page is still there; other contexts are closed on release.
+ * A released context is reset when it is acquired again, so the reset is paid only by the test which reuses the context,
+ * not by the cleanup of every test.
+ */
+public class BrowserContextPool {
+    private static final Logger logger = Logger.getLogger(BrowserContextPool.class.getName());
+    private static final String BLANK_PAGE = "about:blank";
+    private static final String CLEAR_STORAGE_SCRIPT = """
+            async () => {
+                try { window.localStorage.clear(); } catch (e) {}
+                try { window.sessionStorage.clear(); } catch (e) {}
+                try {
+                    const databases = await indexedDB.databases();
+                    await Promise.all(databases.map(database => new Promise(resolve => {
+                        const request = indexedDB.deleteDatabase(database.name);
+                        request.onsuccess = request.onerror = request.onblocked = resolve;
+                    })));
+                } catch (e) {}
+                try { await Promise.all((await caches.keys()).map(key => caches.delete(key))); } catch (e) {}
+                try {
+                    const registrations = await navigator.serviceWorker.getRegistrations();
+                    await Promise.all(registrations.map(registration => registration.unregister()));
+                } catch (e) {}
+            }""";
+    private final Browser browser;
+    private final int size;
+    private final Deque<BrowserContext> idleContexts = new ArrayDeque<>();
+    private final Set<BrowserContext> ownedContexts = new HashSet<>();
+    private final Set<BrowserContext> usedContexts = new HashSet<>();
+    private final Map<BrowserContext, Set<String>> visitedOrigins = new HashMap<>();
+
+    public BrowserContextPool(Browser browser, int size) {
+        this.browser = browser;
+        this.size = Math.max(1, size);
+    }
+
+    public void warmUp() {
+        while (idleContexts.size() < size) {
+            idleContexts.push(createContext());
+        }
+    }
+
+    /**
+     * Take an idle context, a context used by a previous test is reset first. A new context is created if there is
+     * no idle one or none of them can be reset.
+     *
+     * @return clean context with one open page
+     */
+    public BrowserContext acquire() {
+        BrowserContext browserContext;
+        while ((browserContext = idleContexts.poll()) != null) {
+            try {
+                if (usedContexts.remove(browserContext)) {
+                    reset(browserContext);
+                }
+                return browserContext;
+            } catch (PlaywrightException e) {
+                logger.warning("Browser context can't be reset and will be closed\nMore info: " + e.getMessage());
+                closeQuietly(browserContext);
+            }
+        }
+        return createContext();
+    }
+
+    /**
+     * Keep the context for the next test, it is reset when it is acquired. Contexts which were not created by the pool
+     * or can't be wiped are closed.
+     *
+     * @param browserContext context to release
+     */
+    public void release(BrowserContext browserContext) {
+        if (browserContext == null) {
+            return;
+        }
+        if (ownedContexts.contains(browserContext) && idleContexts.size() < size && canBeWiped(browserContext)) {
+            usedContexts.add(browserContext);
+            idleContexts.push(browserContext);
+            return;
+        }
+        closeQuietly(browserContext);
+    }
+
+    public boolean isIdle(BrowserContext browserContext) {
+        return idleContexts.contains(browserContext);
+    }
+
+    public void clear() {
+        idleContexts.forEach(this::closeQuietly);
+        idleContexts.clear();
+    }
+
+    private BrowserContext createContext() {
+        BrowserContext browserContext = browser.newContext();
+        var origins = new HashSet<String>();
+        visitedOrigins.put(browserContext, origins);
+        browserContext.onPage(page -> page.onFrameNavigated(frame -> getOrigin(frame.url()).ifPresent(origins::add)));
+        browserContext.newPage();
+        ownedContexts.add(browserContext);
+        return browserContext;
+    }
+
+    private boolean canBeWiped(BrowserContext browserContext) {
+        var origins = visitedOrigins.getOrDefault(browserContext, Set.of());
+        if (origins.isEmpty()) {
+            return true;
+        }
+        List<Page> pages = browserContext.pages();
+        if (origins.size() > 1 || pages.isEmpty() || !origins.equals(getOrigin(pages.get(0).url()).map(Set::of).orElse(Set.of()))) {
+            logger.fine("Storage of browser context can't be wiped from its first page, the context will be closed: " + origins);
+            return false;
+        }
+        return true;
+    }
+
+    private static Optional<String> getOrigin(String url) {
+        try {
+            var uri = new URI(url);
+            if (uri.getHost() == null || !uri.getScheme().startsWith("http")) {
+                return Optional.empty();
+            }
+            return Optional.of(uri.getScheme() + "://" + uri.getHost() + (uri.getPort() != -1 ? ":" + uri.getPort() : ""));
+        } catch (URISyntaxException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void reset(BrowserContext browserContext) {
+        List<Page> pages = browserContext.pages();
+        if (pages.isEmpty()) {
+            browserContext.newPage();
+        } else {
+            new ArrayList<>(pages.subList(1, pages.size())).forEach(Page::close);
+            Page page = pages.get(0);
+            page.evaluate(CLEAR_STORAGE_SCRIPT);
+            page.navigate(BLANK_PAGE);
+        }
+        browserContext.unrouteAll();
+        browserContext.clearCookies();
+        browserContext.clearPermissions();
+        visitedOrigins.get(browserContext).clear();
+    }
+
+    private void closeQuietly(BrowserContext browserContext) {
+        ownedContexts.remove(browserContext);
+        usedContexts.remove(browserContext);
+        visitedOrigins.remove(browserContext);
+        try {
+            browserContext.close();
+        } catch (PlaywrightException e) {
+            logger.warning("Browser context can't be closed\nMore info: " + e.getMessage());
+        }
+    }
+}
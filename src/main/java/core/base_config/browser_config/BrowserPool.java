@@ -0,0 +1,122 @@
+package core.base_config.browser_config;
+
+import enums.config.BrowserType;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.IntSupplier;
+import java.util.logging.Logger;
+
+import static java.lang.String.format;
+
+/**
+ * JVM-wide pool of warm {@link BrowserSession} instances.
+ * At most {@code maxSize} sessions are launched (one per worker thread, or per browser slot in adaptive mode), they are
+ * leased by test classes and stay alive until the JUnit launcher session is finished. The limit is read on every lease
+ * and release, so a pool sized by browser slots grows and shrinks with them: sessions above the limit are closed when
+ * they are released.
+ */
+public class BrowserPool implements ExtensionContext.Store.CloseableResource {
+    private static final Logger logger = Logger.getLogger(BrowserPool.class.getName());
+    private final BrowserType browserType;
+    private final IntSupplier maxSize;
+    private final BlockingQueue<BrowserSession> idleSessions = new LinkedBlockingQueue<>();
+    private final List<BrowserSession> sessions = new CopyOnWriteArrayList<>();
+    private int launchedSessions;
+
+    public BrowserPool(BrowserType browserType, IntSupplier maxSize) {
+        this.browserType = browserType;
+        this.maxSize = maxSize;
+    }
+
+    public BrowserSession lease() {
+        while (true) {
+            BrowserSession session = idleSessions.poll();
+            if (session == null) {
+                if (reserveLaunch()) {
+                    return launchSession();
+                }
+                session = awaitIdleSession();
+            }
+            if (session.isConnected()) {
+                return session;
+            }
+            logger.warning(format("Pooled %s browser is disconnected, it is replaced", browserType.getName()));
+            closeSession(session);
+            cancelLaunch();
+        }
+    }
+
+    public void release(BrowserSession session) {
+        if (!session.isConnected()) {
+            closeSession(session);
+            cancelLaunch();
+        } else if (retireAboveLimit()) {
+            logger.info(format("%s browser pool is above its limit of %s, a released browser is closed", browserType.getName(), getMaxSize()));
+            closeSession(session);
+        } else {
+            session.closeContexts();
+            idleSessions.offer(session);
+        }
+    }
+
+    @Override
+    public void close() {
+        logger.info(format("Closing browser pool with %s %s browser(s)", sessions.size(), browserType.getName()));
+        sessions.forEach(BrowserSession::close);
+        sessions.clear();
+        idleSessions.clear();
+    }
+
+    private synchronized boolean reserveLaunch() {
+        if (launchedSessions < getMaxSize()) {
+            launchedSessions++;
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized boolean retireAboveLimit() {
+        if (launchedSessions > getMaxSize()) {
+            launchedSessions--;
+            return true;
+        }
+        return false;
+    }
+
+    private int getMaxSize() {
+        return Math.max(1, maxSize.getAsInt());
+    }
+
+    private void closeSession(BrowserSession session) {
+        sessions.remove(session);
+        session.close();
+    }
+
+    private synchronized void cancelLaunch() {
+        launchedSessions--;
+    }
+
+    private BrowserSession launchSession() {
+        try {
+            BrowserSession session = BrowserSession.launch(browserType);
+            sessions.add(session);
+            return session;
+        } catch (RuntimeException e) {
+            cancelLaunch();
+            throw e;
+        }
+    }
+
+    private BrowserSession awaitIdleSession() {
+        try {
+            return idleSessions.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled browser", e);
+        }
+    }
+}
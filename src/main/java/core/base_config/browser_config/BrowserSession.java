@@ -0,0 +1,98 @@
+package core.base_config.browser_config;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType.LaunchOptions;
+import com.microsoft.playwright.Playwright;
+import enums.config.BrowserType;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static core.EnvProperties.getContextPoolSize;
+import static core.EnvProperties.isHeadlessMode;
+import static core.base_config.browser_config.BrowserArguments.*;
+
+/**
+ * Playwright driver together with the browser launched by it.
+ * Both instances are created and closed as a single unit, warm contexts of the browser are kept in {@link BrowserContextPool}.
+ */
+@Getter
+public class BrowserSession implements AutoCloseable {
+    private final BrowserType browserType;
+    private final Playwright playwright;
+    private final Browser browser;
+    private final BrowserContextPool contextPool;
+
+    private BrowserSession(BrowserType browserType, Playwright playwright, Browser browser) {
+        this.browserType = browserType;
+        this.playwright = playwright;
+        this.browser = browser;
+        this.contextPool = new BrowserContextPool(browser, getContextPoolSize());
+    }
+
+    public static BrowserSession launch(BrowserType browserType) {
+        Playwright playwrightInstance = Playwright.create();
+        try {
+            return new BrowserSession(browserType, playwrightInstance, launchBrowser(playwrightInstance, browserType));
+        } catch (RuntimeException e) {
+            playwrightInstance.close();
+            throw e;
+        }
+    }
+
+    public boolean isConnected() {
+        return browser.isConnected();
+    }
+
+    /**
+     * Close all contexts except the idle ones kept in the context pool
+     */
+    public void closeContexts() {
+        browser.contexts().stream()
+                .filter(browserContext -> !contextPool.isIdle(browserContext))
+                .forEach(BrowserContext::close);
+    }
+
+    @Override
+    public void close() {
+        if (browser.isConnected()) {
+            contextPool.clear();
+            closeContexts();
+            browser.close();
+        }
+        playwright.close();
+    }
+
+    private static Browser launchBrowser(Playwright playwrightInstance, BrowserType browserType) {
+        LaunchOptions options = new LaunchOptions()
+                .setHeadless(isHeadlessMode())
+                .setArgs(getBrowserArgs(browserType));
+
+        return switch (browserType) {
+            case CHROMIUM -> playwrightInstance.chromium().launch(options);
+            case FIREFOX -> playwrightInstance.firefox().launch(options);
+            case SAFARI -> playwrightInstance.webkit().launch(options);
+        };
+    }
+
+    private static List<String> getBrowserArgs(BrowserType browserType) {
+        // Common args for all browsers
+        List<String> commonArgs = Arrays.asList(
+                DISABLE_SANDBOX.getValue(),
+                NO_SANDBOX.getValue()
+        );
+
+        // Add browser-specific args if needed
+        if (browserType == BrowserType.CHROMIUM) {
+            return Arrays.asList(
+                    DISABLE_SANDBOX.getValue(),
+                    NO_SANDBOX.getValue(),
+                    CONSOLE_MESSAGES.getValue()
+            );
+        }
+
+        return commonArgs;
+    }
+}
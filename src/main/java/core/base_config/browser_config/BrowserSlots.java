@@ -0,0 +1,73 @@
+package core.base_config.browser_config;
+
+import java.util.concurrent.Semaphore;
+import java.util.logging.Logger;
+
+import static core.EnvProperties.getBrowserSlots;
+import static core.EnvProperties.isAdaptiveParallelism;
+import static java.lang.String.format;
+
+/**
+ * Limits the number of browsers running at the same time, one slot is held by a test class while its browser is in use.
+ * Slots are used with adaptive parallelism, which resizes them according to the system load.
+ */
+public class BrowserSlots {
+    private static final Logger logger = Logger.getLogger(BrowserSlots.class.getName());
+    private static final ResizableSemaphore SLOTS = new ResizableSemaphore(getBrowserSlots());
+    private static int limit = getBrowserSlots();
+
+    public static boolean isEnabled() {
+        return isAdaptiveParallelism();
+    }
+
+    public static void acquire() {
+        if (!SLOTS.tryAcquire()) {
+            logger.info(format("All %s browser slots are taken, %s waits for a free one", getLimit(), Thread.currentThread().getName()));
+            try {
+                SLOTS.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a browser slot", e);
+            }
+        }
+    }
+
+    public static void release() {
+        SLOTS.release();
+    }
+
+    /**
+     * Change the number of slots. Slots which are taken stay taken, a smaller limit applies as they are released.
+     *
+     * @param newLimit new number of slots
+     */
+    public static synchronized void resize(int newLimit) {
+        int delta = Math.max(1, newLimit) - limit;
+        if (delta > 0) {
+            SLOTS.release(delta);
+        } else if (delta < 0) {
+            SLOTS.reducePermits(-delta);
+        }
+        limit += delta;
+    }
+
+    public static synchronized int getLimit() {
+        return limit;
+    }
+
+    public static synchronized int getInUse() {
+        return Math.max(0, limit - SLOTS.availablePermits());
+    }
+
+    private static class ResizableSemaphore extends Semaphore {
+
+        ResizableSemaphore(int permits) {
+            super(permits, true);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
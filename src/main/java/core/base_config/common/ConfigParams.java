@@ -1,10 +1,14 @@
 package core.base_config.common;
 
 import com.microsoft.playwright.Browser;
+import core.base_config.browser_config.BrowserContextPool;
+import enums.config.RoutingProfile;
 import lombok.Data;
 
 @Data
 final public class ConfigParams {
     private Browser browser;
     private String mainAppUrl;
+    private BrowserContextPool contextPool;
+    private RoutingProfile routingProfile;
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package core.base_config.configuration_execution;
+
+import com.sun.management.OperatingSystemMXBean;
+import core.base_config.browser_config.BrowserSession;
+import core.base_config.browser_config.BrowserSlots;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static core.EnvProperties.getAdaptiveIntervalSeconds;
+import static core.EnvProperties.getAdaptiveMaxThreads;
+import static core.EnvProperties.getAdaptiveMemoryReserveMegabytes;
+import static core.EnvProperties.getBrowserType;
+import static core.EnvProperties.getThreadCount;
+import static java.lang.String.format;
+import static org.apache.commons.lang3.math.NumberUtils.INTEGER_ZERO;
+
+/**
+ * Parallelism sized to the CPU and memory headroom of the runner (PARALLELISM_STRATEGY=ADAPTIVE).
+ * Memory and CPU cost of a browser are calibrated with a single browser launch at startup, the number of workers
+ * is the number of browsers which fit into free memory and cores. While the run goes on, system load is sampled
+ * every ADAPTIVE_INTERVAL_SECONDS and {@link BrowserSlots} are shrunk or grown so concurrent browsers keep fitting.
+ */
+public class AdaptiveStrategyParallelism implements ParallelExecutionConfiguration, ParallelExecutionConfigurationStrategy {
+    private static final Logger logger = Logger.getLogger(AdaptiveStrategyParallelism.class.getName());
+    private static final int KEEP_ALIVE_SECONDS = 30;
+    private static final long MEGABYTE = 1024 * 1024;
+    private static final long MIN_BROWSER_MEMORY = 300 * MEGABYTE;
+    private static final double MIN_BROWSER_CORES = 0.25;
+    private static final double HIGH_CPU_LOAD = 0.9;
+    private static final double LOW_CPU_LOAD = 0.7;
+    private static final int CALIBRATION_RENDERS = 20;
+    private static final String CALIBRATION_PAGE = "<html><body>%s</body></html>"
+            .formatted("<div style='display:flex'><input><button>Calibrate</button></div>".repeat(500));
+    private final OperatingSystemMXBean system = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+    private final int cores = Runtime.getRuntime().availableProcessors();
+    private final long memoryReserve = getAdaptiveMemoryReserveMegabytes() * MEGABYTE;
+    private int threadSize;
+    private long browserMemory;
+    private double browserCores;
+
+    @Override
+    public int getParallelism() {
+        return threadSize;
+    }
+
+    @Override
+    public int getMinimumRunnable() {
+        return INTEGER_ZERO;
+    }
+
+    @Override
+    public int getMaxPoolSize() {
+        return threadSize;
+    }
+
+    @Override
+    public int getCorePoolSize() {
+        return threadSize;
+    }
+
+    @Override
+    public int getKeepAliveSeconds() {
+        return KEEP_ALIVE_SECONDS;
+    }
+
+    @Override
+    public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+        try {
+            calibrate();
+            threadSize = Math.min(getAdaptiveMaxThreads(), fittingBrowsers());
+        } catch (RuntimeException e) {
+            threadSize = getThreadCount();
+            logger.warning(format("Browser calibration failed, falling back to THREAD_COUNT=%s\nMore info: %s", threadSize, e.getMessage()));
+            return this;
+        }
+        logger.info(format("Adaptive parallelism: %s workers, browser costs %s MB and %.2f cores, %s cores and %s MB free",
+                threadSize, browserMemory / MEGABYTE, browserCores, cores, system.getFreeMemorySize() / MEGABYTE));
+        BrowserSlots.resize(threadSize);
+        startMonitor();
+        return this;
+    }
+
+    private void calibrate() {
+        long freeMemoryBefore = system.getFreeMemorySize();
+        system.getCpuLoad();
+        try (BrowserSession browserSession = BrowserSession.launch(getBrowserType())) {
+            var page = browserSession.getBrowser().newContext().newPage();
+            long renderStart = System.nanoTime();
+            for (int i = 0; i < CALIBRATION_RENDERS; i++) {
+                page.setContent(CALIBRATION_PAGE);
+            }
+            long renderNanos = System.nanoTime() - renderStart;
+            double cpuLoad = Math.max(0, system.getCpuLoad());
+            browserMemory = Math.max(MIN_BROWSER_MEMORY, freeMemoryBefore - system.getFreeMemorySize());
+            // share of all cores busy while the browser was rendering, taken as the cost of one active browser
+            browserCores = Math.max(MIN_BROWSER_CORES, cpuLoad * cores);
+            logger.fine(format("Calibration rendering took %s ms", TimeUnit.NANOSECONDS.toMillis(renderNanos)));
+        }
+    }
+
+    private int fittingBrowsers() {
+        long byMemory = (system.getFreeMemorySize() - memoryReserve) / browserMemory;
+        long byCpu = (long) (cores / browserCores);
+        return (int) Math.max(1, Math.min(byMemory, byCpu));
+    }
+
+    private void startMonitor() {
+        ScheduledExecutorService monitor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "adaptive-parallelism");
+            thread.setDaemon(true);
+            return thread;
+        });
+        int interval = getAdaptiveIntervalSeconds();
+        monitor.scheduleAtFixedRate(this::adjustSlots, interval, interval, TimeUnit.SECONDS);
+    }
+
+    private void adjustSlots() {
+        double cpuLoad = system.getCpuLoad();
+        long freeMemory = system.getFreeMemorySize();
+        int limit = BrowserSlots.getLimit();
+        if ((cpuLoad >= HIGH_CPU_LOAD || freeMemory < memoryReserve) && limit > 1) {
+            BrowserSlots.resize(limit - 1);
+        } else if (cpuLoad >= 0 && cpuLoad < LOW_CPU_LOAD && freeMemory > memoryReserve + browserMemory && limit < threadSize) {
+            BrowserSlots.resize(limit + 1);
+        }
+        logger.info(format("Utilization: CPU %.0f%%, free memory %s MB, browsers %s/%s (workers %s)",
+                Math.max(0, cpuLoad) * 100, freeMemory / MEGABYTE, BrowserSlots.getInUse(), BrowserSlots.getLimit(), threadSize));
+    }
+}
@@ -0,0 +1,81 @@
+package core.base_config.configuration_execution;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static core.EnvProperties.getTestHistoryDir;
+import static java.lang.String.format;
+
+/**
+ * Durations of test classes from previous runs, stored as exponentially weighted moving average in milliseconds.
+ */
+public class ClassDurationHistory {
+    private static final Path HISTORY_FILE = getTestHistoryDir().resolve("class-durations.properties");
+    private static final double SMOOTHING_FACTOR = 0.5;
+    private static final Map<String, Long> PREVIOUS_DURATIONS = load();
+    private static final Map<String, Long> CURRENT_DURATIONS = new ConcurrentHashMap<>();
+
+    public static Optional<Long> getDuration(String className) {
+        return Optional.ofNullable(PREVIOUS_DURATIONS.get(className));
+    }
+
+    public static void record(String className, long millis) {
+        CURRENT_DURATIONS.merge(className, millis, Long::sum);
+    }
+
+    public static synchronized void save() {
+        if (CURRENT_DURATIONS.isEmpty()) {
+            return;
+        }
+        var properties = new Properties();
+        load(properties);
+        CURRENT_DURATIONS.forEach((className, millis) -> {
+            var previous = properties.getProperty(className);
+            var duration = previous == null
+                    ? millis
+                    : Math.round(SMOOTHING_FACTOR * millis + (1 - SMOOTHING_FACTOR) * Long.parseLong(previous));
+            properties.setProperty(className, String.valueOf(duration));
+        });
+        try {
+            Files.createDirectories(HISTORY_FILE.getParent());
+            try (Writer writer = Files.newBufferedWriter(HISTORY_FILE)) {
+                properties.store(writer, "Test class durations in milliseconds");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(format("Class durations can't be saved to %s", HISTORY_FILE), e);
+        }
+    }
+
+    private static Map<String, Long> load() {
+        var properties = new Properties();
+        load(properties);
+        var durations = new ConcurrentHashMap<String, Long>();
+        properties.stringPropertyNames().forEach(className -> {
+            try {
+                durations.put(className, Long.parseLong(properties.getProperty(className)));
+            } catch (NumberFormatException e) {
+                // Skip corrupted entry, it will be overwritten by the next run
+            }
+        });
+        return durations;
+    }
+
+    private static void load(Properties properties) {
+        if (!Files.exists(HISTORY_FILE)) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(HISTORY_FILE)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(format("Class durations can't be read from %s", HISTORY_FILE), e);
+        }
+    }
+}
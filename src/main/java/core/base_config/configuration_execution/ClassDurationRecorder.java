@@ -0,0 +1,44 @@
+package core.base_config.configuration_execution;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.logging.Logger;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.junit.jupiter.api.extension.ExtensionContext.Namespace.GLOBAL;
+
+/**
+ * Measures duration of every test class for {@link DurationAwareClassOrderer} and busy time of the worker running it.
+ */
+public class ClassDurationRecorder implements BeforeAllCallback, AfterAllCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(ClassDurationRecorder.class);
+    private static final String START_TIME = "startTime";
+    private final Logger logger = Logger.getLogger(this.getClass().getName());
+
+    @Override
+    public void beforeAll(ExtensionContext extensionContext) {
+        getWorkerUtilization(extensionContext);
+        var className = extensionContext.getRequiredTestClass().getName();
+        logger.info(format("Test class %s started on %s, expected duration: %s", className, Thread.currentThread().getName(),
+                ClassDurationHistory.getDuration(className).map(millis -> millis + " ms").orElse("unknown")));
+        extensionContext.getStore(NAMESPACE).put(START_TIME, System.nanoTime());
+    }
+
+    @Override
+    public void afterAll(ExtensionContext extensionContext) {
+        var startTime = extensionContext.getStore(NAMESPACE).remove(START_TIME, Long.class);
+        if (startTime == null) {
+            return;
+        }
+        var duration = System.nanoTime() - startTime;
+        ClassDurationHistory.record(extensionContext.getRequiredTestClass().getName(), NANOSECONDS.toMillis(duration));
+        getWorkerUtilization(extensionContext).recordBusyTime(Thread.currentThread().getName(), duration);
+    }
+
+    private WorkerUtilization getWorkerUtilization(ExtensionContext extensionContext) {
+        return extensionContext.getRoot().getStore(GLOBAL).getOrComputeIfAbsent(WorkerUtilization.class);
+    }
+}
@@ -1,27 +1,31 @@
 package core.base_config.configuration_execution;
 
-import com.microsoft.playwright.Browser;
-import com.microsoft.playwright.BrowserContext;
-import com.microsoft.playwright.BrowserType.LaunchOptions;
-import com.microsoft.playwright.Playwright;
+import core.EnvProperties;
+import core.base_config.browser_config.BrowserPool;
+import core.base_config.browser_config.BrowserSession;
+import core.base_config.browser_config.BrowserSlots;
 import core.base_config.common.ConfigParams;
-import enums.config.BrowserType;
+import core.metrics.MetricsReporter;
+import core.mock_server.MockBackendServer;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
-import java.util.Arrays;
-import java.util.List;
+import java.util.function.IntSupplier;
 
 import static core.EnvProperties.getBrowserType;
+import static core.EnvProperties.getMockBackendPort;
+import static core.EnvProperties.getMockLatencyMillis;
+import static core.EnvProperties.getRoutingProfile;
 import static core.EnvProperties.getUrlWeb;
-import static core.base_config.browser_config.BrowserArguments.*;
-import static core.EnvProperties.isHeadlessMode;
+import static core.EnvProperties.isBrowserPoolEnabled;
+import static core.EnvProperties.isContextPoolEnabled;
+import static core.EnvProperties.isMockBackendEnabled;
+import static org.junit.jupiter.api.extension.ExtensionContext.Namespace.GLOBAL;
 
 public class ConfigurationExecution implements BeforeAllCallback, AfterAllCallback {
     private static final ThreadLocal<ConfigParams> LAUNCH_CONFIG = new ThreadLocal<>();
-    private static final ThreadLocal<Playwright> PLAYWRIGHT = new ThreadLocal<>();
-    private static final ThreadLocal<Browser> BROWSER = new ThreadLocal<>();
+    private static final ThreadLocal<BrowserSession> BROWSER_SESSION = new ThreadLocal<>();
 
     public static ConfigParams getLaunchConfig() {
         return LAUNCH_CONFIG.get();
@@ -29,66 +33,78 @@ public class ConfigurationExecution implements BeforeAllCallback, AfterAllCallba
 
     @Override
     public void beforeAll(ExtensionContext extensionContext) {
+        extensionContext.getRoot().getStore(GLOBAL).getOrComputeIfAbsent(MetricsReporter.class);
+
         ConfigParams configParams = new ConfigParams();
-        configParams.setMainAppUrl(getUrlWeb());
+        configParams.setMainAppUrl(isMockBackendEnabled() ? getMockBackend(extensionContext).getUrl() : getUrlWeb());
+        configParams.setRoutingProfile(getRoutingProfile());
         LAUNCH_CONFIG.set(configParams);
 
-        Playwright playwrightInstance = Playwright.create();
-        PLAYWRIGHT.set(playwrightInstance);
-        
-        Browser browserInstance = launchBrowser(getBrowserType());
-        BROWSER.set(browserInstance);
-        
-        configParams.setBrowser(browserInstance);
+        BrowserSession browserSession = openBrowserSession(extensionContext);
+        BROWSER_SESSION.set(browserSession);
+
+        configParams.setBrowser(browserSession.getBrowser());
+        if (isContextPoolEnabled()) {
+            // Not warmed up here: the first test creates the context like without the pool, later tests reuse it
+            configParams.setContextPool(browserSession.getContextPool());
+        }
     }
 
     @Override
     public void afterAll(ExtensionContext extensionContext) {
-        Browser browserInstance = BROWSER.get();
-        if (browserInstance != null) {
-            browserInstance.contexts().forEach(BrowserContext::close);
-            browserInstance.close();
-            BROWSER.remove();
-        }
-        
-        Playwright playwrightInstance = PLAYWRIGHT.get();
-        if (playwrightInstance != null) {
-            playwrightInstance.close();
-            PLAYWRIGHT.remove();
+        BrowserSession browserSession = BROWSER_SESSION.get();
+        if (browserSession != null) {
+            try {
+                if (isBrowserPoolEnabled()) {
+                    getBrowserPool(extensionContext).release(browserSession);
+                } else {
+                    browserSession.close();
+                }
+            } finally {
+                BROWSER_SESSION.remove();
+                if (BrowserSlots.isEnabled()) {
+                    BrowserSlots.release();
+                }
+            }
         }
-        
+
         LAUNCH_CONFIG.remove();
     }
 
-    private Browser launchBrowser(BrowserType browserType) {
-        Playwright playwrightInstance = PLAYWRIGHT.get();
-        LaunchOptions options = new LaunchOptions()
-                .setHeadless(isHeadlessMode())
-                .setArgs(getBrowserArgs(browserType));
-
-        return switch (browserType) {
-            case CHROMIUM -> playwrightInstance.chromium().launch(options);
-            case FIREFOX -> playwrightInstance.firefox().launch(options);
-            case SAFARI -> playwrightInstance.webkit().launch(options);
-        };
+    private BrowserSession openBrowserSession(ExtensionContext extensionContext) {
+        if (!BrowserSlots.isEnabled()) {
+            return launchOrLease(extensionContext);
+        }
+        BrowserSlots.acquire();
+        try {
+            return launchOrLease(extensionContext);
+        } catch (RuntimeException e) {
+            BrowserSlots.release();
+            throw e;
+        }
     }
 
-    private List<String> getBrowserArgs(BrowserType browserType) {
-        // Common args for all browsers
-        List<String> commonArgs = Arrays.asList(
-                DISABLE_SANDBOX.getValue(),
-                NO_SANDBOX.getValue()
-        );
-
-        // Add browser-specific args if needed
-        if (browserType == BrowserType.CHROMIUM) {
-            return Arrays.asList(
-                    DISABLE_SANDBOX.getValue(),
-                    NO_SANDBOX.getValue(),
-                    CONSOLE_MESSAGES.getValue()
-            );
-        }
+    private BrowserSession launchOrLease(ExtensionContext extensionContext) {
+        return isBrowserPoolEnabled()
+                ? getBrowserPool(extensionContext).lease()
+                : BrowserSession.launch(getBrowserType());
+    }
+
+    private MockBackendServer getMockBackend(ExtensionContext extensionContext) {
+        return extensionContext.getRoot().getStore(GLOBAL)
+                .getOrComputeIfAbsent(MockBackendServer.class, key -> MockBackendServer.start(getMockBackendPort(), getMockLatencyMillis()), MockBackendServer.class);
+    }
+
+    private BrowserPool getBrowserPool(ExtensionContext extensionContext) {
+        return extensionContext.getRoot().getStore(GLOBAL)
+                .getOrComputeIfAbsent(BrowserPool.class, key -> new BrowserPool(getBrowserType(), getBrowserPoolSize()), BrowserPool.class);
+    }
 
-        return commonArgs;
+    /**
+     * One browser per test class running at the same time. In adaptive mode the number of workers is chosen at runtime,
+     * so the current number of browser slots bounds the pool instead.
+     */
+    private IntSupplier getBrowserPoolSize() {
+        return BrowserSlots.isEnabled() ? BrowserSlots::getLimit : EnvProperties::getThreadCount;
     }
 }
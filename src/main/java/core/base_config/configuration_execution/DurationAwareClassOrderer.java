@@ -0,0 +1,85 @@
+package core.base_config.configuration_execution;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static core.EnvProperties.getAdaptiveMaxThreads;
+import static core.EnvProperties.getThreadCount;
+import static core.EnvProperties.isAdaptiveParallelism;
+
+/**
+ * Longest processing time first: test classes start in descending order of their duration in previous runs.
+ * Classes without history are treated as the longest ones.
+ * <p>
+ * JUnit's ForkJoin executor forks concurrent classes in list order and the submitting worker then runs them from
+ * the end of the list, while idle workers steal from its beginning. So the sorted classes are dealt to both ends:
+ * every parallelism-th class to the end (in reverse), the rest to the beginning. Each worker then takes the longest
+ * class left at its end, with one worker the list is simply run in reverse.
+ */
+public class DurationAwareClassOrderer implements ClassOrderer {
+    private static final String PARALLEL_ENABLED = "junit.jupiter.execution.parallel.enabled";
+    private static final String DEFAULT_MODE = "junit.jupiter.execution.parallel.mode.default";
+    private static final String CLASSES_MODE = "junit.jupiter.execution.parallel.mode.classes.default";
+    private static final String STRATEGY = "junit.jupiter.execution.parallel.config.strategy";
+    private static final String FIXED_PARALLELISM = "junit.jupiter.execution.parallel.config.fixed.parallelism";
+    private static final String CONCURRENT = "concurrent";
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        context.getClassDescriptors().sort(Comparator
+                .comparingLong(DurationAwareClassOrderer::getExpectedDuration).reversed()
+                .thenComparing(descriptor -> descriptor.getTestClass().getName()));
+        if (isForkedConcurrently(context)) {
+            submitInStartOrder(context.getClassDescriptors(), getParallelism(context));
+        }
+    }
+
+    /**
+     * Order in which classes have to be submitted, so that the ForkJoin executor starts them longest first
+     *
+     * @param longestFirst classes in the order they should start
+     * @param parallelism  number of workers
+     * @return submission order
+     */
+    static <T> List<T> getSubmissionOrder(List<T> longestFirst, int parallelism) {
+        var stolenFromBeginning = new ArrayList<T>();
+        var runFromEnd = new ArrayList<T>();
+        for (int i = 0; i < longestFirst.size(); i++) {
+            (i % Math.max(1, parallelism) == 0 ? runFromEnd : stolenFromBeginning).add(longestFirst.get(i));
+        }
+        Collections.reverse(runFromEnd);
+        stolenFromBeginning.addAll(runFromEnd);
+        return stolenFromBeginning;
+    }
+
+    private static <T extends ClassDescriptor> void submitInStartOrder(List<T> classDescriptors, int parallelism) {
+        List<T> submissionOrder = getSubmissionOrder(classDescriptors, parallelism);
+        classDescriptors.sort(Comparator.comparingInt(submissionOrder::indexOf));
+    }
+
+    private static boolean isForkedConcurrently(ClassOrdererContext context) {
+        var classesMode = context.getConfigurationParameter(CLASSES_MODE)
+                .or(() -> context.getConfigurationParameter(DEFAULT_MODE))
+                .orElse("same_thread");
+        return context.getConfigurationParameter(PARALLEL_ENABLED).map(Boolean::parseBoolean).orElse(false)
+                && CONCURRENT.equalsIgnoreCase(classesMode);
+    }
+
+    private static int getParallelism(ClassOrdererContext context) {
+        if ("fixed".equalsIgnoreCase(context.getConfigurationParameter(STRATEGY).orElse(""))) {
+            return context.getConfigurationParameter(FIXED_PARALLELISM).map(Integer::parseInt).orElse(1);
+        }
+        // Adaptive workers are sized at execution start, after classes are ordered, so the upper bound is used
+        return isAdaptiveParallelism() ? getAdaptiveMaxThreads() : getThreadCount();
+    }
+
+    private static long getExpectedDuration(ClassDescriptor descriptor) {
+        return ClassDurationHistory.getDuration(descriptor.getTestClass().getName()).orElse(Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,36 @@
+package core.base_config.configuration_execution;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Busy time of every worker thread. At the end of the run the idle share of each worker is logged
+ * and class durations are saved for the next run.
+ */
+public class WorkerUtilization implements ExtensionContext.Store.CloseableResource {
+    private final Logger logger = Logger.getLogger(this.getClass().getName());
+    private final long startTime = System.nanoTime();
+    private final Map<String, AtomicLong> busyTimes = new ConcurrentHashMap<>();
+
+    public void recordBusyTime(String workerName, long nanos) {
+        busyTimes.computeIfAbsent(workerName, key -> new AtomicLong()).addAndGet(nanos);
+    }
+
+    @Override
+    public void close() {
+        var wallTime = System.nanoTime() - startTime;
+        var report = new StringBuilder(format("Wall clock of test classes: %s ms%n", NANOSECONDS.toMillis(wallTime)));
+        new TreeMap<>(busyTimes).forEach((workerName, busyTime) -> report.append(format("%s: busy %s ms, idle %.1f%%%n",
+                workerName, NANOSECONDS.toMillis(busyTime.get()), 100d * (wallTime - busyTime.get()) / wallTime)));
+        logger.info(report.toString());
+        ClassDurationHistory.save();
+    }
+}
@@ -0,0 +1,17 @@
+package core.listeners;
+
+import assertions.AssertionTimeoutBudget;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Gives every test (every attempt of a retried test) a full {@link AssertionTimeoutBudget} before its
+ * {@code @BeforeEach} methods run, so assertions in them are covered by the budget too.
+ */
+public class AssertionTimeoutBudgetListener implements BeforeEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        AssertionTimeoutBudget.reset();
+    }
+}
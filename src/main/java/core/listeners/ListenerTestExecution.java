@@ -2,52 +2,126 @@ package core.listeners;
 
 import com.microsoft.playwright.Browser;
 import com.microsoft.playwright.BrowserContext;
-import com.microsoft.playwright.Page;
+import core.artifacts.ArtifactPipeline;
+import core.artifacts.TraceRecorder;
+import core.base_config.browser_config.BrowserContextPool;
+import core.metrics.RunHistory;
+import core.network.NetworkRouter;
+import core.network.RouteStatistics;
+import core.retry.RetryExtension;
 import io.qameta.allure.Allure;
 import io.qameta.allure.Step;
 import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.TestAbortedException;
 
-import java.io.ByteArrayInputStream;
 import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.logging.Logger;
 
+import static core.base_config.browser_config.BrowserContextHolder.get;
 import static core.base_config.browser_config.BrowserContextHolder.remove;
+import static core.EnvProperties.isTracingEnabled;
 import static core.base_config.configuration_execution.ConfigurationExecution.getLaunchConfig;
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
+import static org.junit.jupiter.api.extension.ExtensionContext.Namespace.GLOBAL;
 
-public class ListenerTestExecution implements AfterEachCallback {
+public class ListenerTestExecution implements BeforeEachCallback, AfterEachCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(ListenerTestExecution.class);
+    private static final String START_TIME = "startTime";
+    private final Logger logger = Logger.getLogger(this.getClass().getName());
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(START_TIME, System.nanoTime());
+    }
 
     @Override
     @Step("After Each Callback with context: '{0}'")
     public void afterEach(ExtensionContext context) {
+        cleanUpAfterTest(context);
+        recordTestDuration(context);
+    }
+
+    private void cleanUpAfterTest(ExtensionContext context) {
         final var requiredTestInstance = context.getRequiredTestInstance();
         final var method = context.getRequiredTestMethod();
         final var nameScreen = format("Class: %s, Test: %s", requiredTestInstance.getClass().getSimpleName(), method.getName());
         var launchConfig = getLaunchConfig();
         if (launchConfig != null && context.getExecutionException().isPresent()) {
-            makeScreenShot(launchConfig.getBrowser(), nameScreen);
+            var artifactPipeline = context.getRoot().getStore(GLOBAL).getOrComputeIfAbsent(ArtifactPipeline.class);
+            makeScreenShot(launchConfig.getBrowser(), launchConfig.getContextPool(), artifactPipeline, nameScreen);
+        }
+        if (isTracingEnabled() && get() != null) {
+            stopTracing(get(), nameScreen, context.getExecutionException().isPresent());
+        }
+        ofNullable(NetworkRouter.getStatistics()).ifPresent(statistics -> attachRouteStatistics(statistics, nameScreen));
+        NetworkRouter.removeStatistics();
+        if (launchConfig != null && launchConfig.getContextPool() != null) {
+            returnBrowserContextToPool(launchConfig.getContextPool());
         }
         if (launchConfig != null) {
-            closeBrowserContexts(launchConfig.getBrowser());
+            closeBrowserContexts(launchConfig.getBrowser(), launchConfig.getContextPool());
         }
         remove();
     }
 
-    @Step("ScreenShot For Failed Test: Browser: '{0}' Name Screenshot: '{1}'")
-    private void makeScreenShot(Browser browser, String nameScreen) {
-        browser.contexts().forEach(browserContext -> browserContext.pages().forEach(page ->
-                Allure.addAttachment(nameScreen.concat(" --- ").concat("__Time__").concat(LocalDateTime.now().toString()),
-                        new ByteArrayInputStream(((page.screenshot(new Page.ScreenshotOptions().setFullPage(true))))))));
+    @Step("ScreenShot For Failed Test: Browser: '{0}' Name Screenshot: '{3}'")
+    private void makeScreenShot(Browser browser, BrowserContextPool contextPool, ArtifactPipeline artifactPipeline, String nameScreen) {
+        browser.contexts().stream()
+                .filter(browserContext -> isNotPooled(browserContext, contextPool))
+                .forEach(browserContext -> browserContext.pages().forEach(page ->
+                        artifactPipeline.attachScreenshot(page, nameScreen.concat(" --- ").concat("__Time__").concat(LocalDateTime.now().toString()))));
+    }
+
+    @Step("Network Routing Statistics For: '{1}'")
+    private void attachRouteStatistics(RouteStatistics statistics, String testName) {
+        logger.info(format("%s network routing statistics:%n%s", testName, statistics));
+        Allure.addAttachment("Network routing statistics", statistics.toString());
+    }
+
+    @Step("Stop Tracing For: '{1}', Keep Trace: '{2}'")
+    private void stopTracing(BrowserContext browserContext, String testName, boolean keepTrace) {
+        TraceRecorder.stop(browserContext, testName, keepTrace).ifPresent(tracePath -> {
+            logger.info(format("%s trace: %s", testName, tracePath.toAbsolutePath()));
+            Allure.addAttachment("Playwright trace", format("%s%nOpen with: npx playwright show-trace %s",
+                    tracePath.toAbsolutePath(), tracePath.toAbsolutePath()));
+        });
+    }
+
+    @Step("Return Browser Context To Pool")
+    private void returnBrowserContextToPool(BrowserContextPool contextPool) {
+        contextPool.release(get());
     }
 
     @Step("Close Browser: '{0}' Contexts")
-    private void closeBrowserContexts(Browser browser) {
+    private void closeBrowserContexts(Browser browser, BrowserContextPool contextPool) {
         final var browserContextsPresent = ofNullable(browser).isPresent();
         Allure.addAttachment("State of browser contexts: ", String.valueOf(browserContextsPresent));
         if (browserContextsPresent) {
-            browser.contexts().stream().filter(Objects::nonNull).forEach(BrowserContext::close);
+            browser.contexts().stream()
+                    .filter(Objects::nonNull)
+                    .filter(browserContext -> isNotPooled(browserContext, contextPool))
+                    .forEach(BrowserContext::close);
         }
     }
+
+    /**
+     * Record the test in the run history under an id which is unique per argument set and stable across runs.
+     * Retried attempts are aborted and not recorded, so only the last attempt of a test is kept
+     */
+    private void recordTestDuration(ExtensionContext context) {
+        var startTime = context.getStore(NAMESPACE).remove(START_TIME, Long.class);
+        var executionException = context.getExecutionException();
+        if (startTime != null && !(executionException.orElse(null) instanceof TestAbortedException)) {
+            RunHistory.recordTest(RetryExtension.getInvocationId(context).orElse(context.getUniqueId()),
+                    System.nanoTime() - startTime, executionException.isEmpty());
+        }
+    }
+
+    private boolean isNotPooled(BrowserContext browserContext, BrowserContextPool contextPool) {
+        return contextPool == null || !contextPool.isIdle(browserContext);
+    }
 }
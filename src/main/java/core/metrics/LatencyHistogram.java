@@ -0,0 +1,77 @@
+package core.metrics;
+
+import static java.lang.String.format;
+
+/**
+ * Thread safe latency histogram with logarithmic buckets (about 5% precision) and constant memory footprint.
+ */
+public class LatencyHistogram {
+    private static final double BUCKET_GROWTH = 1.05;
+    private static final double LOG_BUCKET_GROWTH = Math.log(BUCKET_GROWTH);
+    private static final int BUCKET_COUNT = 512;
+    private static final double NANOS_IN_MICRO = 1_000d;
+    private static final double NANOS_IN_MILLI = 1_000_000d;
+    private final long[] buckets = new long[BUCKET_COUNT];
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    public synchronized void record(long nanos) {
+        buckets[bucketIndex(nanos)]++;
+        count++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized double getTotalMillis() {
+        return totalNanos / NANOS_IN_MILLI;
+    }
+
+    public synchronized double getMeanMillis() {
+        return count == 0 ? 0 : totalNanos / NANOS_IN_MILLI / count;
+    }
+
+    public synchronized double getMaxMillis() {
+        return maxNanos / NANOS_IN_MILLI;
+    }
+
+    /**
+     * Get upper bound of the bucket holding the given percentile
+     *
+     * @param percentile value from 0 to 100
+     * @return latency in milliseconds.
+     */
+    public synchronized double getPercentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBoundMillis(i), getMaxMillis());
+            }
+        }
+        return getMaxMillis();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return format("count=%s p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms total=%.1fms",
+                count, getPercentileMillis(50), getPercentileMillis(95), getPercentileMillis(99), getMaxMillis(), getTotalMillis());
+    }
+
+    private static int bucketIndex(long nanos) {
+        double micros = Math.max(1, nanos / NANOS_IN_MICRO);
+        return Math.min(BUCKET_COUNT - 1, (int) (Math.log(micros) / LOG_BUCKET_GROWTH));
+    }
+
+    private static double bucketUpperBoundMillis(int index) {
+        return Math.pow(BUCKET_GROWTH, index + 1) * NANOS_IN_MICRO / NANOS_IN_MILLI;
+    }
+}
@@ -0,0 +1,28 @@
+package core.metrics;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+/**
+ * Reports collected metrics once, when the JUnit launcher session is finished.
+ */
+public class MetricsReporter implements ExtensionContext.Store.CloseableResource {
+    private static final Path STEP_TIMINGS_SUMMARY = Paths.get("build", "step-timings", "summary.json");
+    private final Logger logger = Logger.getLogger(this.getClass().getName());
+
+    @Override
+    public void close() {
+        var waitSummary = WaitMetrics.getSummary();
+        if (!waitSummary.isEmpty()) {
+            logger.info("Wait latencies:\n" + waitSummary);
+        }
+        if (!StepTimings.getStepLatencies().isEmpty()) {
+            StepTimings.writeSummary(STEP_TIMINGS_SUMMARY);
+            logger.info("Step timings summary: " + STEP_TIMINGS_SUMMARY.toAbsolutePath());
+        }
+        RunHistory.append();
+    }
+}
@@ -0,0 +1,51 @@
+package core.metrics;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Browser-side performance of a single page object navigation, all times are relative to the navigation start.
+ * Timings which are not available yet (e.g. load event of a page which is still loading) are {@code null}.
+ */
+@Getter
+public class NavigationMetrics {
+    private String page;
+    private String url;
+    private String timestamp;
+    private Double timeToFirstByteMs;
+    private Double domInteractiveMs;
+    private Double domContentLoadedMs;
+    private Double loadMs;
+    private Double largestContentfulPaintMs;
+    private Double cumulativeLayoutShift;
+    private long documentTransferSize;
+    private long requestCount;
+    private long transferSize;
+    private Map<String, ResourceTotals> resourcesByType;
+    private List<ResourceTiming> slowestResources;
+    private Map<String, Double> browserMetrics;
+
+    /**
+     * @return transferred kilobytes of the document and all its resources
+     */
+    public double getTransferSizeKb() {
+        return transferSize / 1024d;
+    }
+
+    @Getter
+    public static class ResourceTotals {
+        private long count;
+        private long transferSize;
+        private double durationMs;
+    }
+
+    @Getter
+    public static class ResourceTiming {
+        private String name;
+        private String initiatorType;
+        private double durationMs;
+        private long transferSize;
+    }
+}
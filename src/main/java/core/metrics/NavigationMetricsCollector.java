@@ -0,0 +1,154 @@
+package core.metrics;
+
+import annotations.common.PerformanceBudget;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.options.LoadState;
+import enums.config.BrowserType;
+import io.qameta.allure.Allure;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import static core.EnvProperties.getBrowserType;
+import static core.EnvProperties.isNavigationMetricsEnabled;
+import static java.lang.String.format;
+
+/**
+ * Collects Navigation Timing, Resource Timing, LCP and CLS of the current document and, on Chromium,
+ * CDP {@code Performance.getMetrics}. Every document is collected once: the script marks the window,
+ * so a repeated collection of the same document is skipped.
+ * Results are attached to Allure and appended to {@code build/navigation-metrics/navigations.jsonl}.
+ */
+public class NavigationMetricsCollector {
+    private static final Logger logger = Logger.getLogger(NavigationMetricsCollector.class.getName());
+    private static final Path NAVIGATIONS_FILE = Paths.get("build", "navigation-metrics", "navigations.jsonl");
+    private static final Gson GSON = new Gson();
+    private static final int SLOWEST_RESOURCES = 5;
+    // Observers with buffered flag receive entries recorded before they were created, callbacks come asynchronously
+    private static final String COLLECT_SCRIPT = """
+            async slowestResources => {
+                if (window.__navigationMetricsCollected) {
+                    return null;
+                }
+                window.__navigationMetricsCollected = true;
+                const observe = type => new Promise(resolve => {
+                    if (!PerformanceObserver.supportedEntryTypes.includes(type)) {
+                        resolve(null);
+                        return;
+                    }
+                    const entries = [];
+                    const observer = new PerformanceObserver(list => entries.push(...list.getEntries()));
+                    observer.observe({type, buffered: true});
+                    setTimeout(() => {
+                        entries.push(...observer.takeRecords());
+                        observer.disconnect();
+                        resolve(entries);
+                    }, 0);
+                });
+                const [paints, shifts] = await Promise.all([observe('largest-contentful-paint'), observe('layout-shift')]);
+                const timing = performance.getEntriesByType('navigation')[0];
+                const orNull = value => timing && value > 0 ? value : null;
+                const resources = performance.getEntriesByType('resource');
+                const resourcesByType = {};
+                for (const resource of resources) {
+                    const totals = resourcesByType[resource.initiatorType] ??= {count: 0, transferSize: 0, durationMs: 0};
+                    totals.count++;
+                    totals.transferSize += resource.transferSize;
+                    totals.durationMs += resource.duration;
+                }
+                const documentTransferSize = timing ? timing.transferSize : 0;
+                return {
+                    url: location.href,
+                    timeToFirstByteMs: orNull(timing?.responseStart),
+                    domInteractiveMs: orNull(timing?.domInteractive),
+                    domContentLoadedMs: orNull(timing?.domContentLoadedEventEnd),
+                    loadMs: orNull(timing?.loadEventEnd),
+                    largestContentfulPaintMs: paints && paints.length ? paints[paints.length - 1].startTime : null,
+                    cumulativeLayoutShift: shifts
+                        ? shifts.filter(shift => !shift.hadRecentInput).reduce((sum, shift) => sum + shift.value, 0)
+                        : null,
+                    documentTransferSize,
+                    requestCount: resources.length + 1,
+                    transferSize: resources.reduce((sum, resource) => sum + resource.transferSize, documentTransferSize),
+                    resourcesByType,
+                    slowestResources: [...resources]
+                        .sort((first, second) => second.duration - first.duration)
+                        .slice(0, slowestResources)
+                        .map(resource => ({
+                            name: resource.name,
+                            initiatorType: resource.initiatorType,
+                            durationMs: resource.duration,
+                            transferSize: resource.transferSize
+                        }))
+                };
+            }""";
+
+    /**
+     * Collect metrics of the document loaded in the page
+     *
+     * @param page      page after navigation
+     * @param pageClass page object class the navigation belongs to
+     * @return metrics, empty when collection is disabled (and the page has no budget) or the document was already collected
+     */
+    public static Optional<NavigationMetrics> collect(Page page, Class<?> pageClass) {
+        if (!isNavigationMetricsEnabled() && !pageClass.isAnnotationPresent(PerformanceBudget.class)) {
+            return Optional.empty();
+        }
+        try {
+            page.waitForLoadState(LoadState.DOMCONTENTLOADED);
+            var result = GSON.toJsonTree(page.evaluate(COLLECT_SCRIPT, SLOWEST_RESOURCES));
+            if (!result.isJsonObject()) {
+                return Optional.empty();
+            }
+            JsonObject metrics = result.getAsJsonObject();
+            metrics.addProperty("page", pageClass.getSimpleName());
+            metrics.addProperty("timestamp", Instant.now().toString());
+            if (getBrowserType() == BrowserType.CHROMIUM) {
+                metrics.add("browserMetrics", getBrowserMetrics(page));
+            }
+            String json = GSON.toJson(metrics);
+            Allure.addAttachment(format("Navigation metrics: %s", pageClass.getSimpleName()), "application/json", json, ".json");
+            append(json);
+            return Optional.of(GSON.fromJson(metrics, NavigationMetrics.class));
+        } catch (PlaywrightException e) {
+            logger.warning(format("Navigation metrics of %s can't be collected\nMore info: %s", pageClass.getSimpleName(), e.getMessage()));
+            return Optional.empty();
+        }
+    }
+
+    private static JsonObject getBrowserMetrics(Page page) {
+        CDPSession session = page.context().newCDPSession(page);
+        try {
+            session.send("Performance.enable");
+            var browserMetrics = new JsonObject();
+            for (JsonElement metric : session.send("Performance.getMetrics").getAsJsonArray("metrics")) {
+                var values = metric.getAsJsonObject();
+                browserMetrics.add(values.get("name").getAsString(), values.get("value"));
+            }
+            return browserMetrics;
+        } finally {
+            session.detach();
+        }
+    }
+
+    private static synchronized void append(String json) {
+        try {
+            Files.createDirectories(NAVIGATIONS_FILE.getParent());
+            Files.writeString(NAVIGATIONS_FILE, json + System.lineSeparator(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(format("Navigation metrics can't be appended to %s", NAVIGATIONS_FILE), e);
+        }
+    }
+}
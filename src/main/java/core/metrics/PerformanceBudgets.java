@@ -0,0 +1,65 @@
+package core.metrics;
+
+import annotations.common.PerformanceBudget;
+import enums.config.BudgetMode;
+import exceptions.PerformanceBudgetExceededException;
+import io.qameta.allure.Allure;
+import io.qameta.allure.model.Status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static annotations.common.PerformanceBudget.UNLIMITED;
+import static java.lang.String.format;
+
+/**
+ * Checks navigation metrics of a page against its {@link PerformanceBudget}
+ */
+public class PerformanceBudgets {
+    private static final Logger logger = Logger.getLogger(PerformanceBudgets.class.getName());
+
+    /**
+     * Report the budget of the page to Allure and fail or warn when it is exceeded
+     *
+     * @param pageClass page class, pages without {@link PerformanceBudget} are not checked
+     * @param metrics   metrics of the page navigation
+     */
+    public static void evaluate(Class<?> pageClass, NavigationMetrics metrics) {
+        var budget = pageClass.getAnnotation(PerformanceBudget.class);
+        if (budget == null) {
+            return;
+        }
+        var report = new StringBuilder();
+        var violations = new ArrayList<String>();
+        check("DOMContentLoaded, ms", metrics.getDomContentLoadedMs(), budget.maxDomContentLoadedMs(), report, violations);
+        check("Transfer size, KB", metrics.getTransferSizeKb(), budget.maxTransferSizeKb(), report, violations);
+        check("Request count", (double) metrics.getRequestCount(), budget.maxRequestCount(), report, violations);
+        Allure.addAttachment(format("Performance budget: %s", pageClass.getSimpleName()), report.toString());
+        if (violations.isEmpty()) {
+            return;
+        }
+
+        var message = format("%s exceeds its performance budget: %s", pageClass.getSimpleName(), String.join(", ", violations));
+        if (budget.mode() == BudgetMode.FAIL) {
+            throw new PerformanceBudgetExceededException(message);
+        }
+        logger.warning(message);
+        Allure.step(message, Status.BROKEN);
+    }
+
+    private static void check(String name, Double actual, long limit, StringBuilder report, List<String> violations) {
+        if (limit == UNLIMITED) {
+            return;
+        }
+        if (actual == null) {
+            report.append(format("%s: not available, budget %s%n", name, limit));
+            return;
+        }
+        var exceeded = actual > limit;
+        report.append(format("%s: %.0f, budget %s%s%n", name, actual, limit, exceeded ? " - EXCEEDED" : ""));
+        if (exceeded) {
+            violations.add(format("%s %.0f > %s", name, actual, limit));
+        }
+    }
+}
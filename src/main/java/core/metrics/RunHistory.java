@@ -0,0 +1,84 @@
+package core.metrics;
+
+import com.google.gson.Gson;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static core.EnvProperties.getRunHistoryFile;
+import static core.EnvProperties.getRunHistorySize;
+import static core.EnvProperties.getTestHistoryDir;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Rolling history of runs: one JSON line per run in TEST_HISTORY_DIR/RUN_HISTORY_FILE (runs.jsonl by default) with
+ * the duration of every test and navigation timings of every page class, only the last RUN_HISTORY_SIZE runs are kept.
+ * Runs which execute different tests (CI lanes and shards) should use their own file, so that each baseline is built
+ * from comparable runs. The history is the input of the Gradle task detectPerformanceRegressions.
+ */
+public class RunHistory {
+    private static final Path HISTORY_FILE = getTestHistoryDir().resolve(getRunHistoryFile());
+    private static final Instant STARTED_AT = Instant.now();
+    private static final Map<String, TestResult> TESTS = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> NAVIGATIONS = new ConcurrentHashMap<>();
+
+    public static void recordTest(String testId, long nanos, boolean passed) {
+        TESTS.put(testId, new TestResult(NANOSECONDS.toMillis(nanos), passed ? "PASSED" : "FAILED"));
+    }
+
+    /**
+     * Record navigation to the page until it is ready
+     *
+     * @param pageClass page class
+     * @param nanos     duration of navigation and readiness wait
+     */
+    public static void recordNavigation(Class<?> pageClass, long nanos) {
+        NAVIGATIONS.computeIfAbsent(pageClass.getSimpleName(), key -> new LatencyHistogram()).record(nanos);
+    }
+
+    public static synchronized void append() {
+        if (TESTS.isEmpty()) {
+            return;
+        }
+        var run = new LinkedHashMap<String, Object>();
+        run.put("startedAt", STARTED_AT.toString());
+        run.put("commit", System.getenv().getOrDefault("CI_COMMIT_SHA", ""));
+        run.put("tests", new TreeMap<>(TESTS));
+        var navigations = new TreeMap<String, Map<String, Number>>();
+        NAVIGATIONS.forEach((page, histogram) -> {
+            var values = new LinkedHashMap<String, Number>();
+            values.put("count", histogram.getCount());
+            values.put("meanMs", histogram.getMeanMillis());
+            values.put("p50Ms", histogram.getPercentileMillis(50));
+            values.put("p95Ms", histogram.getPercentileMillis(95));
+            navigations.put(page, values);
+        });
+        run.put("navigations", navigations);
+        try {
+            Files.createDirectories(HISTORY_FILE.getParent());
+            var runs = new ArrayList<String>();
+            if (Files.exists(HISTORY_FILE)) {
+                Files.readAllLines(HISTORY_FILE).stream().filter(line -> !line.isBlank()).forEach(runs::add);
+            }
+            runs.add(new Gson().toJson(run));
+            var tempFile = HISTORY_FILE.resolveSibling(HISTORY_FILE.getFileName() + ".tmp");
+            Files.write(tempFile, runs.subList(Math.max(0, runs.size() - getRunHistorySize()), runs.size()));
+            Files.move(tempFile, HISTORY_FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(format("Run history can't be appended to %s", HISTORY_FILE), e);
+        }
+    }
+
+    private record TestResult(long ms, String status) {
+    }
+}
@@ -0,0 +1,111 @@
+package core.metrics;
+
+import com.google.gson.GsonBuilder;
+import io.qameta.allure.Allure;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static core.EnvProperties.getSlowStepThresholdMillis;
+import static core.EnvProperties.isStepTimingsEnabled;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Duration histograms of framework steps, per step type and per step of a page class.
+ * Steps slower than SLOW_STEP_THRESHOLD_MS are attached to the Allure report of the running test.
+ */
+public class StepTimings {
+    private static final boolean ENABLED = isStepTimingsEnabled();
+    private static final long SLOW_STEP_THRESHOLD_MILLIS = getSlowStepThresholdMillis();
+    private static final long SLOW_STEP_THRESHOLD_NANOS = MILLISECONDS.toNanos(SLOW_STEP_THRESHOLD_MILLIS);
+    private static final Map<String, LatencyHistogram> BY_STEP = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> BY_PAGE_STEP = new ConcurrentHashMap<>();
+
+    public static <T> T time(String step, Class<?> owner, Supplier<T> action) {
+        if (!ENABLED) {
+            return action.get();
+        }
+        var startTime = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(step, owner, System.nanoTime() - startTime);
+        }
+    }
+
+    public static void run(String step, Class<?> owner, Runnable action) {
+        time(step, owner, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static void record(String step, Class<?> owner, long nanos) {
+        BY_STEP.computeIfAbsent(step, key -> new LatencyHistogram()).record(nanos);
+        BY_PAGE_STEP.computeIfAbsent(pageStepKey(step, owner), key -> new LatencyHistogram()).record(nanos);
+        if (nanos >= SLOW_STEP_THRESHOLD_NANOS) {
+            attachSlowStep(step, owner, nanos);
+        }
+    }
+
+    public static Map<String, LatencyHistogram> getStepLatencies() {
+        return new TreeMap<>(BY_STEP);
+    }
+
+    public static Map<String, LatencyHistogram> getPageStepLatencies() {
+        return new TreeMap<>(BY_PAGE_STEP);
+    }
+
+    /**
+     * Write machine-readable summary of steps and waits
+     *
+     * @param summaryFile target JSON file
+     */
+    public static void writeSummary(Path summaryFile) {
+        var summary = new LinkedHashMap<String, Object>();
+        summary.put("steps", toSummary(getStepLatencies()));
+        summary.put("pageSteps", toSummary(getPageStepLatencies()));
+        summary.put("waits", toSummary(WaitMetrics.getLatencies()));
+        try {
+            Files.createDirectories(summaryFile.getParent());
+            Files.writeString(summaryFile, new GsonBuilder().setPrettyPrinting().create().toJson(summary));
+        } catch (IOException e) {
+            throw new UncheckedIOException(format("Step timings summary can't be written to %s", summaryFile), e);
+        }
+    }
+
+    private static Map<String, Map<String, Number>> toSummary(Map<String, LatencyHistogram> histograms) {
+        var summary = new LinkedHashMap<String, Map<String, Number>>();
+        histograms.forEach((name, histogram) -> {
+            var values = new LinkedHashMap<String, Number>();
+            values.put("count", histogram.getCount());
+            values.put("meanMs", histogram.getMeanMillis());
+            values.put("p50Ms", histogram.getPercentileMillis(50));
+            values.put("p95Ms", histogram.getPercentileMillis(95));
+            values.put("p99Ms", histogram.getPercentileMillis(99));
+            values.put("maxMs", histogram.getMaxMillis());
+            values.put("totalMs", histogram.getTotalMillis());
+            summary.put(name, values);
+        });
+        return summary;
+    }
+
+    private static String pageStepKey(String step, Class<?> owner) {
+        return owner.getSimpleName() + "." + step;
+    }
+
+    private static void attachSlowStep(String step, Class<?> owner, long nanos) {
+        var histogram = BY_STEP.get(step);
+        Allure.addAttachment(format("Slow step: %s", pageStepKey(step, owner)),
+                format("Duration: %.1f ms%nThreshold: %s ms%nAll '%s' steps: %s",
+                        nanos / 1_000_000d, SLOW_STEP_THRESHOLD_MILLIS, step, histogram));
+    }
+}
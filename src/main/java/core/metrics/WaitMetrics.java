@@ -0,0 +1,44 @@
+package core.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Latency of every wait performed by {@link utils.WaitUtilities} and web-first assertions, grouped by kind of the wait.
+ */
+public class WaitMetrics {
+    public static final String JVM_CONDITION = "jvm-condition";
+    public static final String PLAYWRIGHT_CONDITION = "playwright-condition";
+    public static final String PAGE_FUNCTION = "page-function";
+    public static final String WEB_FIRST_ASSERTION = "web-first-assertion";
+    private static final Map<String, LatencyHistogram> LATENCIES = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicLong> TIMEOUTS = new ConcurrentHashMap<>();
+
+    public static void record(String kind, long nanos, boolean timedOut) {
+        LATENCIES.computeIfAbsent(kind, key -> new LatencyHistogram()).record(nanos);
+        if (timedOut) {
+            TIMEOUTS.computeIfAbsent(kind, key -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    public static Map<String, LatencyHistogram> getLatencies() {
+        return new TreeMap<>(LATENCIES);
+    }
+
+    public static long getTimeouts(String kind) {
+        var timeouts = TIMEOUTS.get(kind);
+        return timeouts == null ? 0 : timeouts.get();
+    }
+
+    public static String getSummary() {
+        var summary = new StringBuilder();
+        getLatencies().forEach((kind, histogram) -> summary
+                .append(format("%s: %s timeouts=%s", kind, histogram, getTimeouts(kind)))
+                .append(System.lineSeparator()));
+        return summary.toString();
+    }
+}
@@ -0,0 +1,238 @@
+package core.mock_server;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import static enums.ValidationErrorMessage.EMAIL_REQUIRED;
+import static enums.ValidationErrorMessage.INVALID_LOGIN_ERROR;
+import static enums.ValidationErrorMessage.MESSAGE_REQUIRED;
+import static enums.ValidationErrorMessage.NAME_REQUIRED;
+import static java.lang.String.format;
+
+/**
+ * Embedded stand-in for the application backend. Serves login, two-factor verification and feedback pages
+ * with the data-ui-test attributes used by page objects, plus JSON endpoints behind their forms.
+ * A session created by the login is authenticated once it is confirmed with {@link #TWO_FACTOR_CODE}.
+ * Every response can be delayed by a fixed latency.
+ */
+public class MockBackendServer implements ExtensionContext.Store.CloseableResource {
+    private static final Logger logger = Logger.getLogger(MockBackendServer.class.getName());
+    private static final String RESOURCES_DIR = "/mock_backend/";
+    private static final Map<String, String> PAGES = Map.of(
+            "/login", "login.html",
+            "/two-factor-verification", "two_factor_verification.html",
+            "/feedback", "feedback.html"
+    );
+    private static final Map<String, String> VALID_USERS = Map.of(
+            "MrBeast@gmail.com", "ValidPassword123",
+            "399000000000", "ValidPassword123"
+    );
+    public static final String TWO_FACTOR_CODE = "000000";
+    private static final String FEEDBACK_CONFIRMATION = "Thank you for your feedback!";
+    private static final String INVALID_TWO_FACTOR_CODE = "Invalid verification code";
+    private static final String SESSION_COOKIE = "session";
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_BAD_REQUEST = 400;
+    private static final int HTTP_UNAUTHORIZED = 401;
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final int HTTP_METHOD_NOT_ALLOWED = 405;
+    private final Gson gson = new Gson();
+    private final Set<String> pendingSessions = ConcurrentHashMap.newKeySet();
+    private final long latencyMillis;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private MockBackendServer(int port, long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "mock-backend");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", exchange -> handle(exchange, this::servePage));
+        server.createContext("/api/login", exchange -> handle(exchange, this::login));
+        server.createContext("/api/two-factor", exchange -> handle(exchange, this::verifyTwoFactorCode));
+        server.createContext("/api/feedback", exchange -> handle(exchange, this::sendFeedback));
+    }
+
+    public static MockBackendServer start(int port, long latencyMillis) {
+        try {
+            MockBackendServer mockBackendServer = new MockBackendServer(port, latencyMillis);
+            mockBackendServer.server.start();
+            logger.info(format("Mock backend started at %s with latency %s ms", mockBackendServer.getUrl(), latencyMillis));
+            return mockBackendServer;
+        } catch (IOException e) {
+            throw new UncheckedIOException(format("Mock backend can't be started on port %s", port), e);
+        }
+    }
+
+    public String getUrl() {
+        return format("http://localhost:%s", server.getAddress().getPort());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange, ExchangeHandler handler) throws IOException {
+        try {
+            injectLatency();
+            handler.handle(exchange);
+        } catch (RuntimeException e) {
+            logger.warning(format("Mock backend failed to handle %s\nMore info: %s", exchange.getRequestURI(), e.getMessage()));
+            throw e;
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void servePage(HttpExchange exchange) throws IOException {
+        var page = PAGES.get(exchange.getRequestURI().getPath());
+        if (page == null) {
+            send(exchange, HTTP_NOT_FOUND, "text/plain", "Not found");
+            return;
+        }
+        try (InputStream html = getClass().getResourceAsStream(RESOURCES_DIR + page)) {
+            if (html == null) {
+                throw new IllegalStateException(format("Mock page %s is missing", page));
+            }
+            send(exchange, HTTP_OK, "text/html; charset=utf-8", new String(html.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private void login(HttpExchange exchange) throws IOException {
+        if (isNotPost(exchange)) {
+            return;
+        }
+        var request = readJson(exchange);
+        var username = getString(request, "username");
+        var password = getString(request, "password");
+        var response = new LinkedHashMap<String, Object>();
+        if (!password.isEmpty() && password.equals(VALID_USERS.get(username))) {
+            var session = UUID.randomUUID().toString();
+            pendingSessions.add(session);
+            exchange.getResponseHeaders().add("Set-Cookie", format("%s=%s; Path=/; HttpOnly", SESSION_COOKIE, session));
+            response.put("redirect", "/two-factor-verification");
+            send(exchange, HTTP_OK, "application/json", gson.toJson(response));
+        } else {
+            response.put("error", INVALID_LOGIN_ERROR.getValue());
+            send(exchange, HTTP_UNAUTHORIZED, "application/json", gson.toJson(response));
+        }
+    }
+
+    private void verifyTwoFactorCode(HttpExchange exchange) throws IOException {
+        if (isNotPost(exchange)) {
+            return;
+        }
+        var code = getString(readJson(exchange), "code");
+        var session = getSession(exchange);
+        var response = new LinkedHashMap<String, Object>();
+        if (TWO_FACTOR_CODE.equals(code) && pendingSessions.remove(session)) {
+            response.put("redirect", "/feedback");
+            send(exchange, HTTP_OK, "application/json", gson.toJson(response));
+        } else {
+            response.put("error", INVALID_TWO_FACTOR_CODE);
+            send(exchange, HTTP_UNAUTHORIZED, "application/json", gson.toJson(response));
+        }
+    }
+
+    private String getSession(HttpExchange exchange) {
+        return exchange.getRequestHeaders().getOrDefault("Cookie", List.of()).stream()
+                .flatMap(header -> Arrays.stream(header.split(";")))
+                .map(String::trim)
+                .filter(cookie -> cookie.startsWith(SESSION_COOKIE + "="))
+                .map(cookie -> cookie.substring(SESSION_COOKIE.length() + 1))
+                .findFirst()
+                .orElse("");
+    }
+
+    private void sendFeedback(HttpExchange exchange) throws IOException {
+        if (isNotPost(exchange)) {
+            return;
+        }
+        var request = readJson(exchange);
+        var errors = new LinkedHashMap<String, String>();
+        if (getString(request, "name").isBlank()) {
+            errors.put("name", NAME_REQUIRED.getValue());
+        }
+        if (getString(request, "email").isBlank()) {
+            errors.put("email", EMAIL_REQUIRED.getValue());
+        }
+        if (getString(request, "message").isBlank()) {
+            errors.put("message", MESSAGE_REQUIRED.getValue());
+        }
+        var response = new LinkedHashMap<String, Object>();
+        if (errors.isEmpty()) {
+            response.put("message", FEEDBACK_CONFIRMATION);
+            send(exchange, HTTP_OK, "application/json", gson.toJson(response));
+        } else {
+            response.put("errors", errors);
+            send(exchange, HTTP_BAD_REQUEST, "application/json", gson.toJson(response));
+        }
+    }
+
+    private boolean isNotPost(HttpExchange exchange) throws IOException {
+        if ("POST".equals(exchange.getRequestMethod())) {
+            return false;
+        }
+        send(exchange, HTTP_METHOD_NOT_ALLOWED, "text/plain", "Method not allowed");
+        return true;
+    }
+
+    private JsonObject readJson(HttpExchange exchange) throws IOException {
+        var body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        return body.isBlank() ? new JsonObject() : JsonParser.parseString(body).getAsJsonObject();
+    }
+
+    private String getString(JsonObject json, String name) {
+        return json.has(name) && !json.get(name).isJsonNull() ? json.get(name).getAsString() : "";
+    }
+
+    private void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private void injectLatency() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ExchangeHandler {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+}
@@ -0,0 +1,68 @@
+package core.network;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.options.HarMode;
+import com.microsoft.playwright.options.HarNotFound;
+import com.microsoft.playwright.options.RouteFromHarUpdateContentPolicy;
+import enums.config.HarRoutingMode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import static core.EnvProperties.getHarDir;
+import static core.EnvProperties.getHarNotFound;
+import static java.lang.String.format;
+
+/**
+ * Records network traffic of a user flow to a HAR file or replays it from there.
+ * HAR files are kept per page class and user flow: HAR_DIR/PageClass/TestClass-testMethod.har
+ */
+public class HarRouting {
+    private static final Logger logger = Logger.getLogger(HarRouting.class.getName());
+
+    public static Path getHarPath(Class<?> pageClass, Class<?> testClass, String testMethod) {
+        return getHarDir()
+                .resolve(pageClass.getSimpleName())
+                .resolve(format("%s-%s.har", testClass.getSimpleName(), testMethod).replaceAll("[^A-Za-z0-9._-]", "_"));
+    }
+
+    /**
+     * Install HAR routing on the context. Recorded HAR is saved when the context is closed.
+     *
+     * @param browserContext context to route
+     * @param harPath        HAR file of the flow
+     * @param mode           record or replay
+     */
+    public static void install(BrowserContext browserContext, Path harPath, HarRoutingMode mode) {
+        switch (mode) {
+            case RECORD -> {
+                createDirectories(harPath.getParent());
+                browserContext.routeFromHAR(harPath, new BrowserContext.RouteFromHAROptions()
+                        .setUpdate(true)
+                        .setUpdateContent(RouteFromHarUpdateContentPolicy.EMBED)
+                        .setUpdateMode(HarMode.MINIMAL));
+            }
+            case REPLAY -> {
+                if (!Files.exists(harPath)) {
+                    logger.warning(format("HAR %s is not recorded, requests go to the network", harPath));
+                    return;
+                }
+                HarNotFound notFound = getHarNotFound();
+                browserContext.routeFromHAR(harPath, new BrowserContext.RouteFromHAROptions().setNotFound(notFound));
+            }
+            case OFF -> {
+            }
+        }
+    }
+
+    private static void createDirectories(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(format("Directory %s can't be created", directory), e);
+        }
+    }
+}
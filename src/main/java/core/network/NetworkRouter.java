@@ -0,0 +1,122 @@
+package core.network;
+
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+import enums.config.HarRoutingMode;
+import enums.config.RoutingProfile;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static core.EnvProperties.getHarRoutingMode;
+import static core.EnvProperties.getStaticCacheMaxMegabytes;
+import static core.EnvProperties.getStaticCacheTtlSeconds;
+
+/**
+ * Installs {@link RoutingProfile} rules on a browser context: blocked resource types are aborted,
+ * analytics and trackers are stubbed with empty responses, static resources are served from a JVM-wide cache
+ * bounded by STATIC_CACHE_MAX_MB and STATIC_CACHE_TTL_SECONDS (see {@link StaticResourceCache}).
+ * With HAR routing the HAR is the source of responses, so static resources fall back to it instead of the cache.
+ */
+public class NetworkRouter {
+    private static final ThreadLocal<RouteStatistics> STATISTICS = new ThreadLocal<>();
+    private static final long BYTES_IN_MEGABYTE = 1024 * 1024;
+    private static final StaticResourceCache RESPONSE_CACHE = new StaticResourceCache(getStaticCacheMaxMegabytes() * BYTES_IN_MEGABYTE,
+            Duration.ofSeconds(getStaticCacheTtlSeconds()), System::nanoTime);
+    private static final Set<String> STATIC_RESOURCE_TYPES = Set.of("stylesheet", "script", "font", "image");
+    private static final int HTTP_OK = 200;
+    private static final List<Pattern> TRACKER_PATTERNS = List.of(
+            Pattern.compile("google-analytics\\.com"),
+            Pattern.compile("googletagmanager\\.com"),
+            Pattern.compile("doubleclick\\.net"),
+            Pattern.compile("connect\\.facebook\\.net"),
+            Pattern.compile("hotjar\\.com"),
+            Pattern.compile("segment\\.(io|com)"),
+            Pattern.compile("clarity\\.ms"),
+            Pattern.compile("bing\\.com/bat"),
+            Pattern.compile("newrelic\\.com|nr-data\\.net")
+    );
+
+    public static RouteStatistics getStatistics() {
+        return STATISTICS.get();
+    }
+
+    public static void removeStatistics() {
+        STATISTICS.remove();
+    }
+
+    public static void install(BrowserContext browserContext, RoutingProfile routingProfile) {
+        if (routingProfile == RoutingProfile.NONE) {
+            return;
+        }
+        RouteStatistics statistics = new RouteStatistics();
+        STATISTICS.set(statistics);
+        browserContext.route("**/*", route -> handle(route, routingProfile, statistics));
+    }
+
+    private static void handle(Route route, RoutingProfile routingProfile, RouteStatistics statistics) {
+        var request = route.request();
+        var resourceType = request.resourceType();
+        var url = request.url();
+
+        if (routingProfile.getBlockedResourceTypes().contains(resourceType)) {
+            statistics.registerAborted(resourceType);
+            route.abort();
+        } else if (routingProfile.isStubTrackers() && isTracker(url)) {
+            statistics.registerStubbed();
+            route.fulfill(new Route.FulfillOptions().setStatus(HTTP_OK).setBody(""));
+        } else if (routingProfile.isCacheStaticResources() && getHarRoutingMode() == HarRoutingMode.OFF
+                && isCacheable(request.method(), resourceType)) {
+            fulfillFromCache(route, new StaticResourceCache.Key(routingProfile, getPageOrigin(request), url), statistics);
+        } else {
+            statistics.registerPassed();
+            route.fallback();
+        }
+    }
+
+    private static void fulfillFromCache(Route route, StaticResourceCache.Key key, RouteStatistics statistics) {
+        var cachedResponse = RESPONSE_CACHE.get(key);
+        if (cachedResponse.isPresent()) {
+            statistics.registerServedFromCache(cachedResponse.get().body().length);
+            route.fulfill(new Route.FulfillOptions()
+                    .setStatus(cachedResponse.get().status())
+                    .setHeaders(cachedResponse.get().headers())
+                    .setBodyBytes(cachedResponse.get().body()));
+            return;
+        }
+        statistics.registerPassed();
+        APIResponse response = route.fetch();
+        if (response.status() == HTTP_OK) {
+            RESPONSE_CACHE.put(key, response.status(), response.headers(), response.body());
+        }
+        route.fulfill(new Route.FulfillOptions().setResponse(response));
+    }
+
+    /**
+     * Origin of the page which requested the resource, so environments sharing a CDN don't share cached resources
+     */
+    private static String getPageOrigin(Request request) {
+        try {
+            var uri = new URI(request.frame().url());
+            return uri.getHost() == null ? "" : uri.getScheme() + "://" + uri.getHost() + (uri.getPort() != -1 ? ":" + uri.getPort() : "");
+        } catch (URISyntaxException | PlaywrightException e) {
+            // Service worker requests have no frame
+            return "";
+        }
+    }
+
+    private static boolean isTracker(String url) {
+        return TRACKER_PATTERNS.stream().anyMatch(pattern -> pattern.matcher(url).find());
+    }
+
+    private static boolean isCacheable(String method, String resourceType) {
+        return "GET".equals(method) && STATIC_RESOURCE_TYPES.contains(resourceType);
+    }
+}
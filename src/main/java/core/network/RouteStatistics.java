@@ -0,0 +1,65 @@
+package core.network;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Counters of requests handled by {@link NetworkRouter} within one browser context.
+ */
+public class RouteStatistics {
+    private final Map<String, AtomicInteger> abortedByResourceType = new ConcurrentHashMap<>();
+    private final AtomicInteger stubbedRequests = new AtomicInteger();
+    private final AtomicInteger cachedRequests = new AtomicInteger();
+    private final AtomicLong cachedBytes = new AtomicLong();
+    private final AtomicInteger passedRequests = new AtomicInteger();
+
+    void registerAborted(String resourceType) {
+        abortedByResourceType.computeIfAbsent(resourceType, key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    void registerStubbed() {
+        stubbedRequests.incrementAndGet();
+    }
+
+    void registerServedFromCache(int bodySize) {
+        cachedRequests.incrementAndGet();
+        cachedBytes.addAndGet(bodySize);
+    }
+
+    void registerPassed() {
+        passedRequests.incrementAndGet();
+    }
+
+    public int getAbortedRequests() {
+        return abortedByResourceType.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    public int getStubbedRequests() {
+        return stubbedRequests.get();
+    }
+
+    public int getCachedRequests() {
+        return cachedRequests.get();
+    }
+
+    public long getCachedBytes() {
+        return cachedBytes.get();
+    }
+
+    public int getPassedRequests() {
+        return passedRequests.get();
+    }
+
+    @Override
+    public String toString() {
+        var aborted = new TreeMap<String, Integer>();
+        abortedByResourceType.forEach((resourceType, count) -> aborted.put(resourceType, count.get()));
+        return format("Aborted: %s %s%nStubbed: %s%nServed from cache: %s (%s bytes)%nPassed to network: %s",
+                getAbortedRequests(), aborted, getStubbedRequests(), getCachedRequests(), getCachedBytes(), getPassedRequests());
+    }
+}
@@ -0,0 +1,87 @@
+package core.network;
+
+import enums.config.RoutingProfile;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * JVM-wide cache of static resource responses, keyed by routing profile, origin of the requesting page and URL.
+ * Size of the cached bodies is bounded, least recently used entries are evicted first, and every entry expires
+ * after its lifetime. Bodies are stored decoded, so the headers which describe the encoding on the wire are dropped.
+ */
+class StaticResourceCache {
+    private static final Set<String> ENCODING_HEADERS = Set.of("content-encoding", "content-length", "transfer-encoding");
+    private final long maxBytes;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    StaticResourceCache(long maxBytes, Duration ttl, LongSupplier nanoTime) {
+        this.maxBytes = maxBytes;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    synchronized Optional<CachedResponse> get(Key key) {
+        var entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (nanoTime.getAsLong() - entry.storedAt() >= ttlNanos) {
+            remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(entry.response());
+    }
+
+    /**
+     * Store the response, evicting least recently used entries until the cache fits into its size.
+     * A body larger than the whole cache is not stored.
+     */
+    synchronized void put(Key key, int status, Map<String, String> headers, byte[] body) {
+        if (body.length > maxBytes) {
+            return;
+        }
+        remove(key);
+        entries.put(key, new Entry(new CachedResponse(status, withoutEncodingHeaders(headers), body), nanoTime.getAsLong()));
+        totalBytes += body.length;
+        var iterator = entries.values().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            totalBytes -= iterator.next().response().body().length;
+            iterator.remove();
+        }
+    }
+
+    synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    static Map<String, String> withoutEncodingHeaders(Map<String, String> headers) {
+        return headers.entrySet().stream()
+                .filter(header -> !ENCODING_HEADERS.contains(header.getKey().toLowerCase()))
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private void remove(Key key) {
+        var entry = entries.remove(key);
+        if (entry != null) {
+            totalBytes -= entry.response().body().length;
+        }
+    }
+
+    record Key(RoutingProfile routingProfile, String origin, String url) {
+    }
+
+    record CachedResponse(int status, Map<String, String> headers, byte[] body) {
+    }
+
+    private record Entry(CachedResponse response, long storedAt) {
+    }
+}
@@ -0,0 +1,132 @@
+package core.retry;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import static core.EnvProperties.getFlakyMinRuns;
+import static core.EnvProperties.getFlakyQuarantinePercent;
+import static core.EnvProperties.getTestHistoryDir;
+import static java.lang.String.format;
+
+/**
+ * Flakiness rate of every test across runs, stored as exponentially weighted moving average of flaky outcomes
+ * (failed, then passed on retry). Tests with a high rate after enough runs are quarantined.
+ * Quarantine is decided by previous runs, outcomes of the current run are saved when the launcher session is finished.
+ */
+public class FlakinessHistory implements ExtensionContext.Store.CloseableResource {
+    private static final Path HISTORY_FILE = getTestHistoryDir().resolve("flakiness.properties");
+    private static final double SMOOTHING_FACTOR = 0.2;
+    private static final String RATE = ".rate";
+    private static final String RUNS = ".runs";
+    private final Logger logger = Logger.getLogger(this.getClass().getName());
+    private final Properties previousRuns = new Properties();
+    private final Map<String, Outcome> currentOutcomes = new ConcurrentHashMap<>();
+
+    public FlakinessHistory() {
+        load(previousRuns);
+    }
+
+    public boolean isQuarantined(String testId) {
+        return getRuns(previousRuns, testId) >= getFlakyMinRuns()
+                && getRate(previousRuns, testId) * 100 >= getFlakyQuarantinePercent();
+    }
+
+    public double getRate(String testId) {
+        return getRate(previousRuns, testId);
+    }
+
+    /**
+     * Record outcome of a test. A retrying parameterized test records one outcome per argument set,
+     * the run counts as failed if any of them failed and as flaky if any of them passed only on retry
+     */
+    public void record(String testId, Outcome outcome) {
+        currentOutcomes.merge(testId, outcome, (previous, current) -> previous.compareTo(current) >= 0 ? previous : current);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (currentOutcomes.isEmpty()) {
+            return;
+        }
+        var properties = new Properties();
+        load(properties);
+        var flakyTests = new TreeMap<String, String>();
+        currentOutcomes.forEach((testId, outcome) -> {
+            long runs = getRuns(properties, testId);
+            double rate = getUpdatedRate(getRate(properties, testId), runs, outcome);
+            properties.setProperty(testId + RATE, format("%.4f", rate));
+            properties.setProperty(testId + RUNS, String.valueOf(runs + 1));
+            if (outcome == Outcome.FLAKY) {
+                flakyTests.put(testId, format("%.0f%%", rate * 100));
+            }
+        });
+        if (!flakyTests.isEmpty()) {
+            logger.warning(format("Flaky tests of this run (flakiness rate): %s", flakyTests));
+        }
+        try {
+            Files.createDirectories(HISTORY_FILE.getParent());
+            try (Writer writer = Files.newBufferedWriter(HISTORY_FILE)) {
+                properties.store(writer, "Flakiness rate and number of runs of tests");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(format("Flakiness history can't be saved to %s", HISTORY_FILE), e);
+        }
+    }
+
+    /**
+     * Exponentially weighted moving average of flaky outcomes, the first run sets the rate
+     *
+     * @param rate    rate after the previous runs
+     * @param runs    number of previous runs
+     * @param outcome outcome of the current run
+     * @return rate including the current run
+     */
+    static double getUpdatedRate(double rate, long runs, Outcome outcome) {
+        double flaky = outcome == Outcome.FLAKY ? 1 : 0;
+        return runs == 0 ? flaky : SMOOTHING_FACTOR * flaky + (1 - SMOOTHING_FACTOR) * rate;
+    }
+
+    private static double getRate(Properties properties, String testId) {
+        try {
+            return Double.parseDouble(properties.getProperty(testId + RATE, "0"));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static long getRuns(Properties properties, String testId) {
+        try {
+            return Long.parseLong(properties.getProperty(testId + RUNS, "0"));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static void load(Properties properties) {
+        if (!Files.exists(HISTORY_FILE)) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(HISTORY_FILE)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(format("Flakiness history can't be read from %s", HISTORY_FILE), e);
+        }
+    }
+
+    public enum Outcome {
+        PASSED,
+        FLAKY,
+        FAILED
+    }
+}
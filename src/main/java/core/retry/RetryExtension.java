@@ -0,0 +1,256 @@
+package core.retry;
+
+import annotations.common.RetryingParameterizedTest;
+import annotations.common.RetryingTest;
+import enums.config.TestLane;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.LifecycleMethodExecutionExceptionHandler;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.opentest4j.TestAbortedException;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static core.EnvProperties.getRetryCount;
+import static core.EnvProperties.getTestLane;
+import static java.lang.String.format;
+import static org.junit.jupiter.api.extension.ExtensionContext.Namespace.GLOBAL;
+
+/**
+ * Runs {@link RetryingTest} methods as a test template with one invocation per attempt, up to 1 + RETRY_COUNT attempts,
+ * until an attempt passes. Every attempt goes through the whole JUnit lifecycle: {@code @BeforeEach} methods,
+ * parameter resolution, interceptors such as {@code @Timeout} and {@code @AfterEach} callbacks, so the failed attempt
+ * is cleaned up by {@code ListenerTestExecution} (its screenshot and trace are kept) and the retry gets a fresh
+ * browser context. Failed attempts which are retried are reported as aborted, only the failure of the last attempt
+ * fails the test. {@link RetryingParameterizedTest} methods get the attempts of every argument set in turn, the
+ * arguments are resolved as the parameters of the test method. Outcomes are recorded in {@link FlakinessHistory},
+ * quarantined tests run only in the QUARANTINE lane (TEST_LANE).
+ */
+public class RetryExtension implements TestTemplateInvocationContextProvider, ExecutionCondition {
+    private static final Logger logger = Logger.getLogger(RetryExtension.class.getName());
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(RetryExtension.class);
+    private static final String INVOCATION_ID = "invocationId";
+
+    /**
+     * @param extensionContext context of a test invocation
+     * @return id of the retrying test ({@code class#method}, with {@code [n]} for the n-th argument set of
+     * a parameterized test), the same for all attempts; empty for other tests
+     */
+    public static Optional<String> getInvocationId(ExtensionContext extensionContext) {
+        return Optional.ofNullable(extensionContext.getStore(NAMESPACE).get(INVOCATION_ID, String.class));
+    }
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext extensionContext) {
+        var testLane = getTestLane();
+        if (extensionContext.getTestMethod().isEmpty() || testLane == TestLane.ALL) {
+            return ConditionEvaluationResult.enabled("All tests run in lane " + testLane);
+        }
+        var testId = getTestId(extensionContext);
+        boolean quarantined = getFlakinessHistory(extensionContext).isQuarantined(testId);
+        if (quarantined == (testLane == TestLane.QUARANTINE)) {
+            return ConditionEvaluationResult.enabled(format("%s belongs to lane %s", testId, testLane));
+        }
+        return ConditionEvaluationResult.disabled(format("%s doesn't belong to lane %s (flakiness rate %.0f%%)",
+                testId, testLane, getFlakinessHistory(extensionContext).getRate(testId) * 100));
+    }
+
+    @Override
+    public boolean supportsTestTemplate(ExtensionContext extensionContext) {
+        return extensionContext.getTestMethod()
+                .filter(method -> AnnotationSupport.isAnnotated(method, RetryingTest.class)
+                        || AnnotationSupport.isAnnotated(method, RetryingParameterizedTest.class))
+                .isPresent();
+    }
+
+    @Override
+    public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext extensionContext) {
+        var testId = getTestId(extensionContext);
+        var maxAttempts = getRetryCount() + 1;
+        var flakinessHistory = getFlakinessHistory(extensionContext);
+        var parameterizedTest = AnnotationSupport.findAnnotation(extensionContext.getRequiredTestMethod(), RetryingParameterizedTest.class);
+        if (parameterizedTest.isEmpty()) {
+            return getAttempts(new Attempts(testId, testId, extensionContext.getDisplayName(), maxAttempts, flakinessHistory),
+                    new Object[0]);
+        }
+        var argumentSets = getArgumentSets(extensionContext);
+        return IntStream.range(0, argumentSets.size()).boxed()
+                .flatMap(index -> getAttempts(new Attempts(testId, format("%s[%s]", testId, index + 1),
+                        getDisplayName(parameterizedTest.get().name(), index + 1, argumentSets.get(index)),
+                        maxAttempts, flakinessHistory), argumentSets.get(index)));
+    }
+
+    private static Stream<TestTemplateInvocationContext> getAttempts(Attempts attempts, Object[] arguments) {
+        // The stream is consumed lazily, the next attempt is created only after the previous one failed
+        return IntStream.rangeClosed(1, attempts.maxAttempts)
+                .takeWhile(attempt -> attempt == 1 || attempts.retryRequested)
+                .mapToObj(attempt -> new AttemptInvocationContext(attempts, attempt, arguments));
+    }
+
+    private static List<Object[]> getArgumentSets(ExtensionContext extensionContext) {
+        var testClass = extensionContext.getRequiredTestClass();
+        var testMethod = extensionContext.getRequiredTestMethod();
+        var factoryName = AnnotationSupport.findAnnotation(testMethod, MethodSource.class)
+                .map(MethodSource::value)
+                .filter(names -> names.length > 0)
+                .map(names -> names[0])
+                .orElse(testMethod.getName());
+        var factory = ReflectionSupport.findMethod(testClass, factoryName)
+                .orElseThrow(() -> new IllegalStateException(format("Arguments factory method %s is not found in %s",
+                        factoryName, testClass.getName())));
+        Object arguments = ReflectionSupport.invokeMethod(factory, null);
+        Stream<?> argumentStream = arguments instanceof Stream<?> stream ? stream
+                : arguments instanceof Collection<?> collection ? collection.stream()
+                : Arrays.stream((Object[]) arguments);
+        try (argumentStream) {
+            return argumentStream.map(RetryExtension::toArray).toList();
+        }
+    }
+
+    private static Object[] toArray(Object argumentSet) {
+        if (argumentSet instanceof Arguments arguments) {
+            return arguments.get();
+        }
+        return argumentSet instanceof Object[] array ? array : new Object[]{argumentSet};
+    }
+
+    /**
+     * @param pattern   name pattern of {@link RetryingParameterizedTest}
+     * @param index     index of the argument set, starting at 1
+     * @param arguments the argument set
+     * @return display name of the argument set
+     */
+    static String getDisplayName(String pattern, int index, Object[] arguments) {
+        var displayName = pattern
+                .replace("{index}", String.valueOf(index))
+                .replace("{arguments}", Arrays.stream(arguments).map(String::valueOf).collect(Collectors.joining(", ")));
+        for (int i = 0; i < arguments.length; i++) {
+            displayName = displayName.replace("{" + i + "}", String.valueOf(arguments[i]));
+        }
+        return displayName;
+    }
+
+    private static String getTestId(ExtensionContext extensionContext) {
+        return format("%s#%s", extensionContext.getRequiredTestClass().getName(), extensionContext.getRequiredTestMethod().getName());
+    }
+
+    private static FlakinessHistory getFlakinessHistory(ExtensionContext extensionContext) {
+        return extensionContext.getRoot().getStore(GLOBAL).getOrComputeIfAbsent(FlakinessHistory.class);
+    }
+
+    /**
+     * Attempts of one test, updated by the extensions of its invocations
+     */
+    private static final class Attempts {
+        private final String testId;
+        private final String invocationId;
+        private final String displayName;
+        private final int maxAttempts;
+        private final FlakinessHistory flakinessHistory;
+        private volatile boolean retryRequested;
+
+        private Attempts(String testId, String invocationId, String displayName, int maxAttempts, FlakinessHistory flakinessHistory) {
+            this.testId = testId;
+            this.invocationId = invocationId;
+            this.displayName = displayName;
+            this.maxAttempts = maxAttempts;
+            this.flakinessHistory = flakinessHistory;
+        }
+
+        private void passed(int attempt) {
+            retryRequested = false;
+            flakinessHistory.record(testId, attempt == 1 ? FlakinessHistory.Outcome.PASSED : FlakinessHistory.Outcome.FLAKY);
+        }
+
+        /**
+         * @return exception reported for the attempt: the failure itself if it is the last attempt,
+         * otherwise an abort which requests a retry
+         */
+        private Throwable failed(int attempt, Throwable failure) {
+            retryRequested = false;
+            if (failure instanceof TestAbortedException) {
+                return failure;
+            }
+            if (attempt >= maxAttempts) {
+                flakinessHistory.record(testId, FlakinessHistory.Outcome.FAILED);
+                return failure;
+            }
+            logger.warning(format("%s failed, retry %s of %s\nMore info: %s", invocationId, attempt, maxAttempts - 1, failure.getMessage()));
+            retryRequested = true;
+            return new TestAbortedException(format("Attempt %s of %s failed, the test is retried", attempt, maxAttempts), failure);
+        }
+    }
+
+    private record AttemptInvocationContext(Attempts attempts, int attempt, Object[] arguments)
+            implements TestTemplateInvocationContext {
+
+        @Override
+        public String getDisplayName(int invocationIndex) {
+            return attempt == 1
+                    ? attempts.displayName
+                    : format("%s (retry %s of %s)", attempts.displayName, attempt - 1, attempts.maxAttempts - 1);
+        }
+
+        @Override
+        public List<Extension> getAdditionalExtensions() {
+            return List.of(new AttemptExtension(attempts, attempt, arguments));
+        }
+    }
+
+    private record AttemptExtension(Attempts attempts, int attempt, Object[] arguments)
+            implements TestExecutionExceptionHandler, LifecycleMethodExecutionExceptionHandler, BeforeEachCallback,
+            AfterTestExecutionCallback, ParameterResolver {
+
+        @Override
+        public void beforeEach(ExtensionContext context) {
+            context.getStore(NAMESPACE).put(INVOCATION_ID, attempts.invocationId);
+        }
+
+        @Override
+        public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+            return parameterContext.getIndex() < arguments.length
+                    && parameterContext.getDeclaringExecutable().equals(extensionContext.getRequiredTestMethod());
+        }
+
+        @Override
+        public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+            return arguments[parameterContext.getIndex()];
+        }
+
+        @Override
+        public void handleTestExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+            throw attempts.failed(attempt, throwable);
+        }
+
+        @Override
+        public void handleBeforeEachMethodExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+            throw attempts.failed(attempt, throwable);
+        }
+
+        @Override
+        public void afterTestExecution(ExtensionContext context) {
+            if (context.getExecutionException().isEmpty()) {
+                attempts.passed(attempt);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package core.selection;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import static java.lang.String.format;
+
+/**
+ * Dependency graph of project classes read from the constant pools of compiled classes: class references
+ * (including {@code XPage.class} literals and {@code new XPage()}) and types in field, method and annotation descriptors.
+ * Only classes loaded from directories are project classes, library classes from jars are not followed.
+ * Compile time constants inlined from other classes are not visible in the constant pool.
+ */
+public class ClassDependencies {
+    private static final Pattern DESCRIPTOR_TYPE = Pattern.compile("L([\\w/$]+);");
+    private static final int CLASS_FILE_MAGIC = 0xCAFEBABE;
+    private final ClassLoader classLoader;
+    private final Map<String, Set<String>> directDependencies = new HashMap<>();
+
+    public ClassDependencies(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Top level project classes the class depends on directly or transitively, including the class itself
+     *
+     * @param className binary name of the class
+     * @return top level class names
+     */
+    public Set<String> getTransitiveDependencies(String className) {
+        var visited = new HashSet<String>();
+        var queue = new ArrayDeque<String>();
+        queue.add(className);
+        while (!queue.isEmpty()) {
+            var current = queue.poll();
+            if (visited.add(current)) {
+                getDirectDependencies(current).stream().filter(dependency -> !visited.contains(dependency)).forEach(queue::add);
+            }
+        }
+        var topLevelClasses = new TreeSet<String>();
+        visited.forEach(dependency -> topLevelClasses.add(dependency.split("\\$")[0]));
+        return topLevelClasses;
+    }
+
+    private Set<String> getDirectDependencies(String className) {
+        return directDependencies.computeIfAbsent(className, this::readDependencies);
+    }
+
+    private Set<String> readDependencies(String className) {
+        var resource = className.replace('.', '/') + ".class";
+        var url = classLoader.getResource(resource);
+        if (url == null || !"file".equals(url.getProtocol())) {
+            return Set.of();
+        }
+        try (InputStream inputStream = url.openStream()) {
+            var dependencies = new HashSet<String>();
+            for (String typeName : readReferencedTypes(new DataInputStream(inputStream))) {
+                var dependency = typeName.replace('/', '.');
+                if (!dependency.equals(className) && isProjectClass(dependency)) {
+                    dependencies.add(dependency);
+                }
+            }
+            return dependencies;
+        } catch (IOException e) {
+            throw new UncheckedIOException(format("Class file of %s can't be read", className), e);
+        }
+    }
+
+    private boolean isProjectClass(String className) {
+        var url = classLoader.getResource(className.replace('.', '/') + ".class");
+        return url != null && "file".equals(url.getProtocol());
+    }
+
+    private static Set<String> readReferencedTypes(DataInputStream input) throws IOException {
+        if (input.readInt() != CLASS_FILE_MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        input.readUnsignedShort();
+        input.readUnsignedShort();
+        int constantPoolCount = input.readUnsignedShort();
+        var utf8Entries = new String[constantPoolCount];
+        var classNameIndexes = new HashSet<Integer>();
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = input.readUnsignedByte();
+            switch (tag) {
+                case 1 -> utf8Entries[i] = input.readUTF();
+                case 7 -> classNameIndexes.add(input.readUnsignedShort());
+                case 8, 16, 19, 20 -> input.skipBytes(2);
+                case 15 -> input.skipBytes(3);
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> input.skipBytes(4);
+                case 5, 6 -> {
+                    input.skipBytes(8);
+                    i++;
+                }
+                default -> throw new IOException(format("Unknown constant pool tag %s", tag));
+            }
+        }
+        var types = new HashSet<String>();
+        classNameIndexes.stream()
+                .map(index -> utf8Entries[index])
+                .filter(name -> name != null && !name.startsWith("["))
+                .forEach(types::add);
+        for (String entry : utf8Entries) {
+            if (entry != null && entry.indexOf(';') > 0) {
+                var matcher = DESCRIPTOR_TYPE.matcher(entry);
+                while (matcher.find()) {
+                    types.add(matcher.group(1));
+                }
+            }
+        }
+        return types;
+    }
+}
@@ -0,0 +1,144 @@
+package core.selection;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import static core.EnvProperties.getImpactedSince;
+import static core.selection.TestClasses.getRoot;
+import static core.selection.TestClasses.getTopLevelClassName;
+import static java.lang.String.format;
+
+/**
+ * Keeps only test classes impacted by the changes since IMPACTED_SINCE (a git ref).
+ * A test class is impacted when a changed Java source belongs to one of its transitive dependencies
+ * (pages, locators, enums, framework classes), see {@link ClassDependencies}.
+ * Changes of other files (build, resources, mock pages) can affect any test, so everything runs.
+ */
+public class ImpactedTestFilter implements PostDiscoveryFilter {
+    private static final Pattern JAVA_SOURCE = Pattern.compile("src/(?:main|test|jmh)/java/(.+)\\.java");
+    private static final Pattern IGNORED_FILE = Pattern.compile(".*\\.md");
+    private static final long GIT_TIMEOUT_SECONDS = 30;
+    private static final Logger logger = Logger.getLogger(ImpactedTestFilter.class.getName());
+    private static TestDescriptor selectedRoot;
+    private static Set<String> impactedClasses;
+
+    @Override
+    public FilterResult apply(TestDescriptor testDescriptor) {
+        var impactedSince = getImpactedSince();
+        if (impactedSince.isBlank()) {
+            return FilterResult.included("Impacted test selection is disabled");
+        }
+        var className = getTopLevelClassName(testDescriptor);
+        if (className.isEmpty()) {
+            return FilterResult.included("Not a test class");
+        }
+        if (isSelected(testDescriptor)) {
+            return FilterResult.included(format("%s is impacted by changes since %s", className.get(), impactedSince));
+        }
+        return FilterResult.excluded(format("%s is not impacted by changes since %s", className.get(), impactedSince));
+    }
+
+    /**
+     * Whether the test class of the descriptor is kept by impacted test selection, used by filters which need
+     * to know the classes that survive it
+     *
+     * @param testDescriptor test class or method
+     * @return {@code true} if the class is impacted or the selection is disabled
+     */
+    public static boolean isSelected(TestDescriptor testDescriptor) {
+        var impactedSince = getImpactedSince();
+        var className = getTopLevelClassName(testDescriptor);
+        if (impactedSince.isBlank() || className.isEmpty()) {
+            return true;
+        }
+        var impacted = getImpactedClasses(testDescriptor, impactedSince);
+        return impacted == null || impacted.contains(className.get());
+    }
+
+    /**
+     * @return impacted test classes, {@code null} if all tests have to run
+     */
+    private static synchronized Set<String> getImpactedClasses(TestDescriptor testDescriptor, String impactedSince) {
+        var root = getRoot(testDescriptor);
+        if (root != selectedRoot) {
+            selectedRoot = root;
+            impactedClasses = selectImpactedClasses(root, impactedSince);
+        }
+        return impactedClasses;
+    }
+
+    private static Set<String> selectImpactedClasses(TestDescriptor root, String impactedSince) {
+        List<String> changedFiles;
+        try {
+            changedFiles = getChangedFiles(impactedSince);
+        } catch (IOException | IllegalStateException e) {
+            logger.warning(format("Changed files since %s can't be listed, all tests run\nMore info: %s", impactedSince, e.getMessage()));
+            return null;
+        }
+        var changedClasses = new TreeSet<String>();
+        for (String changedFile : changedFiles) {
+            var matcher = JAVA_SOURCE.matcher(changedFile);
+            if (matcher.find()) {
+                changedClasses.add(matcher.group(1).replace('/', '.'));
+            } else if (!IGNORED_FILE.matcher(changedFile).matches()) {
+                logger.info(format("%s changed since %s, all tests run", changedFile, impactedSince));
+                return null;
+            }
+        }
+
+        var dependencies = new ClassDependencies(Thread.currentThread().getContextClassLoader());
+        var impacted = new TreeSet<String>();
+        var impactedByTag = new TreeMap<String, Set<String>>();
+        root.getChildren().stream().flatMap(engine -> engine.getChildren().stream()).forEach(descriptor -> {
+            if (descriptor.getSource().orElse(null) instanceof ClassSource classSource
+                    && dependencies.getTransitiveDependencies(classSource.getClassName()).stream().anyMatch(changedClasses::contains)) {
+                impacted.add(classSource.getClassName());
+                descriptor.getTags().stream().map(TestTag::getName)
+                        .forEach(tag -> impactedByTag.computeIfAbsent(tag, key -> new TreeSet<>()).add(classSource.getClassName()));
+            }
+        });
+        logger.info(format("Changed classes since %s: %s%nImpacted test classes: %s%nImpacted test classes by tag: %s",
+                impactedSince, changedClasses, impacted, impactedByTag));
+        return impacted;
+    }
+
+    private static List<String> getChangedFiles(String gitRef) throws IOException {
+        var changedFiles = new ArrayList<String>();
+        changedFiles.addAll(runGit("git", "diff", "--name-only", gitRef));
+        changedFiles.addAll(runGit("git", "ls-files", "--others", "--exclude-standard"));
+        return changedFiles;
+    }
+
+    private static List<String> runGit(String... command) throws IOException {
+        var process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        List<String> lines;
+        try (var reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            lines = reader.lines().filter(line -> !line.isBlank()).toList();
+        }
+        try {
+            if (!process.waitFor(GIT_TIMEOUT_SECONDS, TimeUnit.SECONDS) || process.exitValue() != 0) {
+                throw new IllegalStateException(format("'%s' failed: %s", String.join(" ", command), lines));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(format("'%s' was interrupted", String.join(" ", command)), e);
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,122 @@
+package core.selection;
+
+import core.base_config.configuration_execution.ClassDurationHistory;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+
+import static core.EnvProperties.getShardIndex;
+import static core.EnvProperties.getShardTotal;
+import static core.selection.TestClasses.getRoot;
+import static core.selection.TestClasses.getTopLevelClassName;
+import static java.lang.String.format;
+
+/**
+ * Keeps only test classes of the current shard (SHARD_INDEX of SHARD_TOTAL).
+ * Classes are distributed longest first to the least loaded shard, weighted by durations of previous runs,
+ * so every shard computes the same assignment as long as they read the same class durations
+ * (in CI the history is pinned for the whole pipeline and written back only after all shards finished).
+ * Only classes kept by {@link ImpactedTestFilter} are distributed.
+ */
+public class ShardFilter implements PostDiscoveryFilter {
+    private final Logger logger = Logger.getLogger(this.getClass().getName());
+    private final int shardIndex = getShardIndex();
+    private final int shardTotal = getShardTotal();
+    private TestDescriptor assignedRoot;
+    private Map<String, Integer> shardByClass = Map.of();
+
+    @Override
+    public FilterResult apply(TestDescriptor testDescriptor) {
+        if (shardTotal <= 1) {
+            return FilterResult.included("Sharding is disabled");
+        }
+        var className = getTopLevelClassName(testDescriptor);
+        if (className.isEmpty()) {
+            return FilterResult.included("Not a test class");
+        }
+        var shard = getShardByClass(testDescriptor).getOrDefault(className.get(), shardIndex);
+        return shard == shardIndex
+                ? FilterResult.included(format("%s belongs to shard %s", className.get(), shardIndex))
+                : FilterResult.excluded(format("%s belongs to shard %s", className.get(), shard));
+    }
+
+    private synchronized Map<String, Integer> getShardByClass(TestDescriptor testDescriptor) {
+        var root = getRoot(testDescriptor);
+        if (root != assignedRoot) {
+            assignedRoot = root;
+            var weights = getWeights(collectClassNames(root));
+            shardByClass = assignShards(weights, shardTotal);
+
+            var ownClasses = new TreeSet<String>();
+            shardByClass.forEach((className, shard) -> {
+                if (shard == shardIndex) {
+                    ownClasses.add(className);
+                }
+            });
+            logger.info(format("Shard %s of %s: expected duration %s ms, classes: %s", shardIndex, shardTotal,
+                    ownClasses.stream().mapToLong(weights::get).sum(), ownClasses));
+        }
+        return shardByClass;
+    }
+
+    /**
+     * Longest processing time first: classes are assigned longest first to the least loaded shard,
+     * ties are broken by class name and lower shard index so the assignment is deterministic
+     *
+     * @param weights    expected duration by class name
+     * @param shardTotal number of shards
+     * @return shard index by class name
+     */
+    static Map<String, Integer> assignShards(Map<String, Long> weights, int shardTotal) {
+        List<String> orderedClasses = weights.keySet().stream()
+                .sorted(Comparator.<String>comparingLong(weights::get).reversed().thenComparing(Comparator.naturalOrder()))
+                .toList();
+        var shardLoads = new long[shardTotal];
+        var assignment = new HashMap<String, Integer>();
+        for (String className : orderedClasses) {
+            var shard = 0;
+            for (int i = 1; i < shardTotal; i++) {
+                if (shardLoads[i] < shardLoads[shard]) {
+                    shard = i;
+                }
+            }
+            shardLoads[shard] += weights.get(className);
+            assignment.put(className, shard);
+        }
+        return assignment;
+    }
+
+    private Map<String, Long> getWeights(TreeSet<String> classNames) {
+        var knownDurations = classNames.stream()
+                .map(ClassDurationHistory::getDuration)
+                .flatMap(Optional::stream)
+                .mapToLong(Long::longValue)
+                .average();
+        var defaultWeight = Math.max(1, Math.round(knownDurations.orElse(1)));
+        var weights = new HashMap<String, Long>();
+        classNames.forEach(className -> weights.put(className, ClassDurationHistory.getDuration(className).orElse(defaultWeight)));
+        return weights;
+    }
+
+    /**
+     * Classes with tests that survive impacted test selection, so the shards are balanced over the classes
+     * which actually run
+     */
+    private TreeSet<String> collectClassNames(TestDescriptor root) {
+        var classNames = new TreeSet<String>();
+        root.accept(descriptor -> {
+            if (descriptor.getChildren().isEmpty() && ImpactedTestFilter.isSelected(descriptor)) {
+                getTopLevelClassName(descriptor).ifPresent(classNames::add);
+            }
+        });
+        return classNames;
+    }
+}
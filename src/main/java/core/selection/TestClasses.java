@@ -0,0 +1,34 @@
+package core.selection;
+
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+
+import java.util.Optional;
+
+/**
+ * Test class of a descriptor as seen by the selection filters. JUnit applies post-discovery filters to the leaves
+ * of the test tree, so test methods are mapped to the top level class which declares them.
+ */
+class TestClasses {
+
+    static Optional<String> getTopLevelClassName(TestDescriptor testDescriptor) {
+        return testDescriptor.getSource().map(source -> {
+            if (source instanceof ClassSource classSource) {
+                return classSource.getClassName();
+            }
+            if (source instanceof MethodSource methodSource) {
+                return methodSource.getClassName();
+            }
+            return null;
+        }).map(className -> className.split("\\$")[0]);
+    }
+
+    static TestDescriptor getRoot(TestDescriptor testDescriptor) {
+        var root = testDescriptor;
+        while (root.getParent().isPresent()) {
+            root = root.getParent().get();
+        }
+        return root;
+    }
+}
@@ -0,0 +1,6 @@
+package enums.config;
+
+public enum BudgetMode {
+    FAIL,
+    WARN
+}
@@ -0,0 +1,7 @@
+package enums.config;
+
+public enum HarRoutingMode {
+    OFF,
+    RECORD,
+    REPLAY
+}
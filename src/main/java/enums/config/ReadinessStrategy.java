@@ -0,0 +1,9 @@
+package enums.config;
+
+public enum ReadinessStrategy {
+    DOM_READY,
+    LOAD,
+    NETWORK_IDLE,
+    KEY_ELEMENT,
+    JS_PREDICATE
+}
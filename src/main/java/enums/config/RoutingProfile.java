@@ -0,0 +1,20 @@
+package enums.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+public enum RoutingProfile {
+    NONE(Set.of(), false, false),
+    NO_MEDIA(Set.of("image", "media", "font"), false, false),
+    NO_TRACKERS(Set.of(), true, false),
+    MINIMAL(Set.of("image", "media", "font"), true, false),
+    CACHED_STATIC(Set.of(), true, true);
+
+    private final Set<String> blockedResourceTypes;
+    private final boolean stubTrackers;
+    private final boolean cacheStaticResources;
+}
@@ -0,0 +1,8 @@
+package exceptions;
+
+public class BrokenSelectorException extends RuntimeException {
+
+    public BrokenSelectorException(String message) {
+        super(message);
+    }
+}
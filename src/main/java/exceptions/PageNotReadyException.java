@@ -0,0 +1,8 @@
+package exceptions;
+
+public class PageNotReadyException extends RuntimeException {
+
+    public PageNotReadyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package exceptions;
+
+/**
+ * Assertion error, so a page over its budget is reported as a failed test rather than a broken one
+ */
+public class PerformanceBudgetExceededException extends AssertionError {
+
+    public PerformanceBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,115 @@
+package locator_templates;
+
+import annotations.common.RequiredOnLoad;
+import annotations.common.Selector;
+import com.microsoft.playwright.Page;
+import exceptions.BrokenSelectorException;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static java.lang.String.format;
+
+/**
+ * Selectors declared as static String fields of page classes marked with {@link Selector} or {@link RequiredOnLoad}.
+ * They are collected and validated once per class, when the first instance of the page is created.
+ */
+public class SelectorRegistry {
+    private static final Pattern DATA_ATTRIBUTE_SELECTOR = Pattern.compile("\\[data-ui-test='([^']*)']");
+    private static final Pattern DATA_ATTRIBUTE_VALUE = Pattern.compile("[A-Za-z0-9_-]+");
+    private static final String MISSING_SELECTORS_SCRIPT = """
+            (selectors) => selectors.filter(selector => {
+                try {
+                    return selector.startsWith('//') || selector.startsWith('(')
+                        ? !document.evaluate(selector, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue
+                        : !document.querySelector(selector);
+                } catch (e) {
+                    return true;
+                }
+            })""";
+    private static final ClassValue<List<PageSelector>> SELECTORS = new ClassValue<>() {
+        @Override
+        protected List<PageSelector> computeValue(Class<?> pageClass) {
+            return collectSelectors(pageClass);
+        }
+    };
+
+    public static List<PageSelector> getSelectors(Class<?> pageClass) {
+        return SELECTORS.get(pageClass);
+    }
+
+    /**
+     * Check in a single DOM query that every {@link RequiredOnLoad} selector of the page class resolves
+     *
+     * @param page      page to check
+     * @param pageClass page object class
+     */
+    @SuppressWarnings("unchecked")
+    public static void verifyRequiredOnLoad(Page page, Class<?> pageClass) {
+        var selectors = getSelectors(pageClass).stream()
+                .filter(PageSelector::requiredOnLoad)
+                .map(PageSelector::selector)
+                .toList();
+        if (selectors.isEmpty()) {
+            return;
+        }
+        var missingSelectors = (List<String>) page.evaluate(MISSING_SELECTORS_SCRIPT, selectors);
+        if (!missingSelectors.isEmpty()) {
+            throw new BrokenSelectorException(format("Selectors of %s don't resolve on %s: %s",
+                    pageClass.getSimpleName(), page.url(), missingSelectors));
+        }
+    }
+
+    private static List<PageSelector> collectSelectors(Class<?> pageClass) {
+        var selectors = new ArrayList<PageSelector>();
+        var errors = new ArrayList<String>();
+        for (Field field : pageClass.getDeclaredFields()) {
+            if (!field.isAnnotationPresent(Selector.class) && !field.isAnnotationPresent(RequiredOnLoad.class)) {
+                continue;
+            }
+            if (!Modifier.isStatic(field.getModifiers()) || field.getType() != String.class) {
+                errors.add(format("%s: selector has to be a static String field", field.getName()));
+                continue;
+            }
+            var selector = readSelector(field);
+            var error = validate(selector);
+            if (error != null) {
+                errors.add(format("%s: %s", field.getName(), error));
+            } else {
+                selectors.add(new PageSelector(field.getName(), selector, field.isAnnotationPresent(RequiredOnLoad.class)));
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new BrokenSelectorException(format("Invalid selectors in %s: %s", pageClass.getName(), errors));
+        }
+        return List.copyOf(selectors);
+    }
+
+    private static String readSelector(Field field) {
+        try {
+            field.setAccessible(true);
+            return (String) field.get(null);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(format("Selector field %s can't be read", field), e);
+        }
+    }
+
+    private static String validate(String selector) {
+        if (selector == null || selector.isBlank()) {
+            return "selector is empty";
+        }
+        var matcher = DATA_ATTRIBUTE_SELECTOR.matcher(selector);
+        while (matcher.find()) {
+            if (!DATA_ATTRIBUTE_VALUE.matcher(matcher.group(1)).matches()) {
+                return format("invalid data-ui-test value '%s'", matcher.group(1));
+            }
+        }
+        return null;
+    }
+
+    public record PageSelector(String field, String selector, boolean requiredOnLoad) {
+    }
+}
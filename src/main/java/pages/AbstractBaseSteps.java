@@ -1,17 +1,28 @@
 package pages;
 
+import annotations.common.PageReadiness;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
 import com.microsoft.playwright.options.LoadState;
 import com.microsoft.playwright.options.WaitForSelectorState;
+import core.metrics.StepTimings;
+import enums.config.ReadinessStrategy;
 import exceptions.NoSuchPageException;
+import exceptions.PageNotReadyException;
 import io.qameta.allure.Step;
+import locator_templates.SelectorRegistry;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import static com.microsoft.playwright.options.WaitForSelectorState.ATTACHED;
 import static com.microsoft.playwright.options.WaitForSelectorState.DETACHED;
+import static com.microsoft.playwright.options.WaitForSelectorState.VISIBLE;
 import static core.base_config.browser_config.BrowserContextHolder.get;
+import static core.base_config.browser_config.BrowserContextHolder.getActivePage;
 import static java.lang.String.format;
 import static java.util.Objects.nonNull;
 
@@ -19,8 +30,10 @@ public abstract class AbstractBaseSteps {
     protected final Logger logger = Logger.getLogger(this.getClass().getName());
     public static final int DEFAULT_TIMEOUT = 20000;
     private final Page page;
+    private final Map<String, Locator> locators = new HashMap<>();
 
     public AbstractBaseSteps() {
+        SelectorRegistry.getSelectors(getClass());
         this.page = getPage();
     }
 
@@ -29,6 +42,10 @@ public abstract class AbstractBaseSteps {
         if (nonNull(page)) {
             return page;
         }
+        var activePage = getActivePage();
+        if (activePage != null) {
+            return activePage;
+        }
         var browserContext = get();
         if (browserContext == null || browserContext.pages().isEmpty()) {
             throw new NoSuchPageException();
@@ -38,56 +55,62 @@ public abstract class AbstractBaseSteps {
 
     @Step("Find Element by Locator: '{0}'")
     protected Locator findElement(String locator) {
-        return page.locator(locator);
+        return timed("findElement", () -> locators.computeIfAbsent(locator, page::locator));
     }
 
     @Step("Find Element By Text : '{0}'")
     protected Locator findElementByText(String text) {
-        return page.getByText(text);
+        return timed("findElementByText", () -> page.getByText(text));
     }
 
     @Step("Wait for element {0} to be present")
     protected Locator waitForPresent(String locator) {
-        Locator element = findElement(locator);
-        element.first().waitFor(new Locator.WaitForOptions().setState(ATTACHED));
-        return element;
+        return timed("waitForPresent", () -> {
+            Locator element = findElement(locator);
+            element.first().waitFor(new Locator.WaitForOptions().setState(ATTACHED));
+            return element;
+        });
     }
 
     @Step("Click Element: '{0}'")
     protected void click(String locator) {
-        waitForPresent(locator).click();
+        timed("click", () -> waitForPresent(locator).click());
     }
 
     @Step("Fill field by locator {0} with text {1}")
     protected void fill(String locator, String text) {
-        waitForPresent(locator).fill(text);
+        timed("fill", () -> waitForPresent(locator).fill(text));
     }
 
     @Step("Clear Input {0}")
     protected void clearInput(String locator) {
-        waitForPresent(locator).clear();
+        timed("clearInput", () -> waitForPresent(locator).clear());
     }
 
     @Step("Get Element text value {0}")
     protected String getText(String locator) {
-        return waitForPresent(locator).textContent().trim();
+        return timed("getText", () -> waitForPresent(locator).textContent().trim());
     }
 
     @Step("Element {0} is Present on the Page")
     protected boolean isPresent(String locator) {
-        return findElement(locator).count() > 0;
+        return timed("isPresent", () -> findElement(locator).count() > 0);
     }
 
     @Step("Get current url of the page")
     public String getCurrentUrl() {
-        page.waitForLoadState();
-        return page.url();
+        return timed("getCurrentUrl", () -> {
+            page.waitForLoadState();
+            return page.url();
+        });
     }
 
     @Step("Get value from text field by locator {0}")
     protected String getInputValue(Locator locator) {
-        waitForPresent(locator);
-        return locator.inputValue();
+        return timed("getInputValue", () -> {
+            waitForPresent(locator);
+            return locator.inputValue();
+        });
     }
 
     @Step("Wait for element {0} to be present")
@@ -108,30 +131,62 @@ public abstract class AbstractBaseSteps {
 
     @Step("Wait for selector {0} with state {1}")
     protected void waitFor(Locator locator, WaitForSelectorState state) {
-        locator.first().waitFor(new Locator.WaitForOptions().setState(state));
+        timed("waitFor", () -> locator.first().waitFor(new Locator.WaitForOptions().setState(state)));
     }
 
     @Step("Wait For Element {0}")
     public Locator waitFor(String locator) {
-        Locator elementLocator = page.locator(locator);
-        elementLocator.waitFor();
-
-        return elementLocator;
+        return timed("waitFor", () -> {
+            Locator elementLocator = locators.computeIfAbsent(locator, page::locator);
+            elementLocator.waitFor();
+
+            return elementLocator;
+        });
+    }
+
+    /**
+     * Wait once for the readiness signal of the page defined by {@link PageReadiness}, LOAD state by default
+     */
+    @Step("Wait until page is ready")
+    public void waitUntilReady() {
+        timed("waitUntilReady", () -> {
+            var readiness = getClass().getAnnotation(PageReadiness.class);
+            var strategy = readiness != null ? readiness.strategy() : ReadinessStrategy.LOAD;
+            try {
+                switch (strategy) {
+                    case DOM_READY -> page.waitForLoadState(LoadState.DOMCONTENTLOADED);
+                    case LOAD -> page.waitForLoadState(LoadState.LOAD);
+                    case NETWORK_IDLE -> page.waitForLoadState(LoadState.NETWORKIDLE);
+                    case KEY_ELEMENT -> page.locator(getReadinessValue(readiness.selector(), strategy)).first()
+                            .waitFor(new Locator.WaitForOptions().setState(VISIBLE));
+                    case JS_PREDICATE -> page.waitForFunction(getReadinessValue(readiness.predicate(), strategy));
+                }
+            } catch (PlaywrightException e) {
+                throw new PageNotReadyException(format("Page %s is not ready by strategy %s", getClass().getSimpleName(), strategy), e);
+            }
+        });
+    }
+
+    /**
+     * Check that every {@link annotations.common.RequiredOnLoad} selector of the page resolves
+     */
+    @Step("Verify required selectors of the page")
+    public void verifyRequiredSelectors() {
+        timed("verifyRequiredSelectors", () -> SelectorRegistry.verifyRequiredOnLoad(page, getClass()));
+    }
+
+    private String getReadinessValue(String value, ReadinessStrategy strategy) {
+        if (value.isBlank()) {
+            throw new IllegalStateException(format("@PageReadiness of %s requires a value for strategy %s", getClass().getName(), strategy));
+        }
+        return value;
     }
 
-    @Step("Wait Load State Load And Dom Content Load")
-    protected void waitPageContentLoad() {
-        waitForPage(LoadState.LOAD);
-        waitForPage(LoadState.DOMCONTENTLOADED);
+    private <T> T timed(String step, Supplier<T> action) {
+        return StepTimings.time(step, getClass(), action);
     }
 
-    @Step("Wait Page For Load State {0}")
-    private void waitForPage(LoadState loadState) {
-        try {
-            page.waitForLoadState(loadState, new Page.WaitForLoadStateOptions().setTimeout(DEFAULT_TIMEOUT));
-        } catch (Exception e) {
-            final var message = format("Page is not fully loaded with loadState %s after: %s milliseconds", loadState.name(), DEFAULT_TIMEOUT);
-            logger.warning(message + "\nMore info: " + e.getMessage());
-        }
+    private void timed(String step, Runnable action) {
+        StepTimings.run(step, getClass(), action);
     }
 }
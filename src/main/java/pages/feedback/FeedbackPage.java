@@ -1,22 +1,35 @@
 package pages.feedback;
 
+import annotations.common.PageReadiness;
+import annotations.common.RequiredOnLoad;
+import annotations.common.Selector;
 import annotations.common.URI;
-import assertions.CustomAssertions;
+import assertions.WebFirstAssertions;
 import enums.ValidationErrorMessage;
 import io.qameta.allure.Step;
 import pages.AbstractBaseSteps;
 
+import static enums.config.ReadinessStrategy.KEY_ELEMENT;
 import static locator_templates.LocatorTemplate.getLocatorByDataAttribute;
 
 @URI(url = "/feedback")
+@PageReadiness(strategy = KEY_ELEMENT, selector = "[data-ui-test='feedback-name-input']")
 public class FeedbackPage extends AbstractBaseSteps {
+    @RequiredOnLoad
     private static final String nameField = getLocatorByDataAttribute("feedback-name-input");
+    @RequiredOnLoad
     private static final String emailField = getLocatorByDataAttribute("feedback-email-input");
+    @RequiredOnLoad
     private static final String messageField = getLocatorByDataAttribute("feedback-message-input");
+    @RequiredOnLoad
     private static final String sendButton = getLocatorByDataAttribute("feedback-send-button");
+    @Selector
     private static final String confirmationMessage = getLocatorByDataAttribute("feedback-confirmation-message");
+    @Selector
     private static final String nameFieldError = getLocatorByDataAttribute("feedback-name-error");
+    @Selector
     private static final String emailFieldError = getLocatorByDataAttribute("feedback-email-error");
+    @Selector
     private static final String messageFieldError = getLocatorByDataAttribute("feedback-message-error");
 
     @Step("Fill name value: '{0}'")
@@ -45,23 +58,23 @@ public class FeedbackPage extends AbstractBaseSteps {
 
     @Step("Verify confirmation message: '{0}'")
     public void verifyConfirmationMessage(String expectedMessage) {
-        CustomAssertions.assertThatElementTextEqualTo(waitFor(confirmationMessage), expectedMessage, "Confirmation Message");
+        WebFirstAssertions.assertThatElementTextEqualTo(findElement(confirmationMessage), expectedMessage, "Confirmation Message");
     }
 
     @Step("Verify name error message: '{0}'")
     public FeedbackPage verifyNameErrorMessage(ValidationErrorMessage expectedMessage) {
-        CustomAssertions.assertThatElementTextEqualTo(waitFor(nameFieldError), expectedMessage.getValue(), "Name Error Message");
+        WebFirstAssertions.assertThatElementTextEqualTo(findElement(nameFieldError), expectedMessage.getValue(), "Name Error Message");
         return this;
     }
 
     @Step("Verify email error message: '{0}'")
     public FeedbackPage verifyEmailErrorMessage(ValidationErrorMessage expectedMessage) {
-        CustomAssertions.assertThatElementTextEqualTo(waitFor(emailFieldError), expectedMessage.getValue(), "Email Error Message");
+        WebFirstAssertions.assertThatElementTextEqualTo(findElement(emailFieldError), expectedMessage.getValue(), "Email Error Message");
         return this;
     }
 
     @Step("Verify message error message: '{0}'")
     public void verifyMessageErrorMessage(ValidationErrorMessage expectedMessage) {
-        CustomAssertions.assertThatElementTextEqualTo(waitFor(messageFieldError), expectedMessage.getValue(), "Message Error Message");
+        WebFirstAssertions.assertThatElementTextEqualTo(findElement(messageFieldError), expectedMessage.getValue(), "Message Error Message");
     }
 }
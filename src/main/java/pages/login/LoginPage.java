@@ -1,21 +1,32 @@
 package pages.login;
 
+import annotations.common.PageReadiness;
+import annotations.common.PerformanceBudget;
+import annotations.common.RequiredOnLoad;
+import annotations.common.Selector;
 import annotations.common.URI;
-import assertions.CustomAssertions;
+import assertions.WebFirstAssertions;
 import enums.ValidationErrorMessage;
 import io.qameta.allure.Step;
 import pages.AbstractBaseSteps;
 
-import static assertions.CustomAssertions.assertThatElementIsVisible;
+import static assertions.CustomAssertions.assertThatElements;
+import static enums.config.BudgetMode.WARN;
+import static enums.config.ReadinessStrategy.KEY_ELEMENT;
 import static locator_templates.LocatorTemplate.getLocatorByDataAttribute;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
-import static org.junit.jupiter.api.Assertions.assertAll;
 
 @URI(url = "/login")
+@PageReadiness(strategy = KEY_ELEMENT, selector = "[data-ui-test='customer-username-input']")
+@PerformanceBudget(maxDomContentLoadedMs = 3000, maxTransferSizeKb = 3072, maxRequestCount = 100, mode = WARN)
 public class LoginPage extends AbstractBaseSteps {
+    @RequiredOnLoad
     private static final String usernameField = getLocatorByDataAttribute("customer-username-input");
+    @RequiredOnLoad
     private static final String passwordField = getLocatorByDataAttribute("customer-password-input");
+    @RequiredOnLoad
     private static final String loginButton = getLocatorByDataAttribute("customer-login-button");
+    @Selector
     private static final String loginFormError = "//section[@class='login']//div[contains(@class,'alert-danger')]";
 
 
@@ -39,33 +50,33 @@ public class LoginPage extends AbstractBaseSteps {
 
     @Step("Verify login form error message: '{0}'")
     public void verifyLoginFormErrorMessage(ValidationErrorMessage expectedErrorMessage) {
-        CustomAssertions.assertThatElementInnerTextEqualTo(waitFor(loginFormError), expectedErrorMessage.getValue(), "Login Error Message");
+        WebFirstAssertions.assertThatElementInnerTextEqualTo(findElement(loginFormError), expectedErrorMessage.getValue(), "Login Error Message");
     }
 
     @Step("Verify login page UI")
     public void verifyLoginPageUI() {
-        assertAll(
-                () -> assertThatElementIsVisible(waitForPresent(usernameField), true, "Username Field"),
-                () -> assertThatElementIsVisible(waitForPresent(passwordField), true, "Password Field"),
-                () -> assertThatElementIsVisible(waitForPresent(loginButton), true, "Login Button")
-        );
+        assertThatElements(getPage())
+                .visible(usernameField, true, "Username Field")
+                .visible(passwordField, true, "Password Field")
+                .visible(loginButton, true, "Login Button")
+                .assertAll();
     }
 
     @Step("Verify username field value: '{0}'")
     public LoginPage verifyUsernameFieldValue(String expectedValue) {
-        CustomAssertions.assertThatInputFieldElementValueEqualToValue(waitForPresent(usernameField), expectedValue, "Username");
+        WebFirstAssertions.assertThatInputFieldElementValueEqualToValue(findElement(usernameField), expectedValue, "Username");
         return this;
     }
 
     @Step("Verify username field is empty")
     public LoginPage verifyUsernameFieldIsEmpty() {
-        CustomAssertions.assertThatInputFieldElementValueEqualToValue(waitForPresent(usernameField), EMPTY, "Username");
+        WebFirstAssertions.assertThatInputFieldElementValueEqualToValue(findElement(usernameField), EMPTY, "Username");
         return this;
     }
 
     @Step("Verify password field is empty")
     public void verifyPasswordFieldIsEmpty() {
-        CustomAssertions.assertThatInputFieldElementValueEqualToValue(waitForPresent(passwordField), EMPTY, "Password");
+        WebFirstAssertions.assertThatInputFieldElementValueEqualToValue(findElement(passwordField), EMPTY, "Password");
     }
 
     @Step("Clear username field")
@@ -0,0 +1,35 @@
+package pages.login;
+
+import annotations.common.LoggedIn;
+import com.microsoft.playwright.Page;
+import core.auth.LoginFlow;
+import pages.two_factor_verification.TwoFactorVerificationPage;
+
+/**
+ * Login with username and password followed by two-factor verification
+ */
+public class TwoFactorLoginFlow implements LoginFlow {
+
+    @Override
+    public Class<LoginPage> getLoginPageClass() {
+        return LoginPage.class;
+    }
+
+    @Override
+    public void logIn(Page page, LoggedIn loggedIn) {
+        LoginPage loginPage = new LoginPage();
+        loginPage.waitUntilReady();
+        loginPage
+                .fillUsername(loggedIn.username())
+                .fillPassword(loggedIn.password())
+                .clickLoginButton();
+        var twoFactorVerificationPage = new TwoFactorVerificationPage();
+        twoFactorVerificationPage.verifyTwoFactorVerificationPagePresent();
+        String twoFactorVerificationUrl = page.url();
+        twoFactorVerificationPage
+                .fillCode(loggedIn.twoFactorCode())
+                .clickVerifyButton();
+        // Session is authenticated once the app leaves the verification page
+        page.waitForURL(url -> !url.equals(twoFactorVerificationUrl));
+    }
+}
@@ -1,19 +1,39 @@
 package pages.two_factor_verification;
 
+import annotations.common.PageReadiness;
+import annotations.common.RequiredOnLoad;
+import annotations.common.Selector;
 import annotations.common.URI;
-import assertions.CustomAssertions;
+import assertions.WebFirstAssertions;
 import io.qameta.allure.Step;
 import pages.AbstractBaseSteps;
 
+import static enums.config.ReadinessStrategy.DOM_READY;
 import static locator_templates.LocatorTemplate.getLocatorByDataAttribute;
 
 @URI(url = "/two-factor-verification")
+@PageReadiness(strategy = DOM_READY)
 public class TwoFactorVerificationPage extends AbstractBaseSteps {
+    @RequiredOnLoad
     private static final String twoFactorVerificationTitle = getLocatorByDataAttribute("two-factor-verification-title");
+    @Selector
+    private static final String codeField = getLocatorByDataAttribute("two-factor-verification-code-input");
+    @Selector
+    private static final String verifyButton = getLocatorByDataAttribute("two-factor-verification-submit-button");
 
     @Step("Verify Two Factor Verification Page is present")
     public void verifyTwoFactorVerificationPagePresent() {
-        waitPageContentLoad();
-        CustomAssertions.assertThatElementIsVisible(findElement(twoFactorVerificationTitle), true, "Two Factor Verification Page");
+        WebFirstAssertions.assertThatElementIsVisible(findElement(twoFactorVerificationTitle), true, "Two Factor Verification Page");
+    }
+
+    @Step("Fill verification code value: '{0}'")
+    public TwoFactorVerificationPage fillCode(String value) {
+        fill(codeField, value);
+        return this;
+    }
+
+    @Step("Click verify button")
+    public void clickVerifyButton() {
+        click(verifyButton);
     }
 }
@@ -1,16 +1,25 @@
 package utils;
 
-import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.TimeoutError;
+import core.metrics.WaitMetrics;
 import exceptions.ElementTimeoutException;
 import io.qameta.allure.Step;
 
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
+import static core.metrics.WaitMetrics.JVM_CONDITION;
+import static core.metrics.WaitMetrics.PAGE_FUNCTION;
+import static core.metrics.WaitMetrics.PLAYWRIGHT_CONDITION;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class WaitUtilities {
     private static final int DEFAULT_TIME_OUT_IN_SECONDS = 30;
     private static final int PULLING_TIME = 300;
+    private static final int INITIAL_PULLING_TIME = 10;
 
     @Step("Wait for condition: '{0}' and error message '{1}'")
     public static void waitForCondition(Supplier<Boolean> condition, String errorMessage) {
@@ -19,22 +28,57 @@ public class WaitUtilities {
 
     @Step("Wait for condition: '{0}' with error message '{1}' and timeout: '{2}'")
     public static void waitForCondition(Supplier<Boolean> condition, String errorMessage, int seconds) {
-        var timeout = seconds * 1000;
-        while (!condition.get()) {
-            waitForTime(PULLING_TIME);
-            timeout -= PULLING_TIME;
-            if (timeout <= 0) throw new ElementTimeoutException(errorMessage);
-        }
+        waitUntil(condition, seconds * 1000L, errorMessage);
     }
 
     @Step("Wait for condition: '{0}' with timeout: '{1}' milliseconds and error message '{2}'")
     public static void waitForCondition(Supplier<Boolean> condition, long timeout, String errorMessage) {
-        var initialTimeOut = timeout;
-        while (!condition.get()) {
-            waitForTime(PULLING_TIME);
-            timeout -= PULLING_TIME;
-            if (timeout <= 0)
-                throw new ElementTimeoutException(String.format("%s after :%s milliseconds", errorMessage, initialTimeOut));
+        waitUntil(condition, timeout, String.format("%s after :%s milliseconds", errorMessage, timeout));
+    }
+
+    /**
+     * Wait for JVM side condition which depends on Playwright events (e.g. flag set by page.onResponse).
+     * Playwright events are dispatched while waiting, so there is no sleep between checks.
+     *
+     * @param page         page which events are dispatched
+     * @param condition    condition to wait for
+     * @param timeout      timeout in milliseconds
+     * @param errorMessage message of the exception thrown on timeout
+     */
+    @Step("Wait for condition: '{1}' on page with timeout: '{2}' milliseconds and error message '{3}'")
+    public static void waitForCondition(Page page, BooleanSupplier condition, long timeout, String errorMessage) {
+        var startTime = System.nanoTime();
+        var timedOut = false;
+        try {
+            page.waitForCondition(condition, new Page.WaitForConditionOptions().setTimeout(timeout));
+        } catch (TimeoutError e) {
+            timedOut = true;
+            throw new ElementTimeoutException(String.format("%s after :%s milliseconds", errorMessage, timeout));
+        } finally {
+            WaitMetrics.record(PLAYWRIGHT_CONDITION, System.nanoTime() - startTime, timedOut);
+        }
+    }
+
+    /**
+     * Wait for JS predicate evaluated inside the page, e.g. "() => document.querySelectorAll('li').length > 3".
+     * The predicate is checked by the browser on every animation frame, without round trips to the JVM.
+     *
+     * @param page         page to evaluate predicate in
+     * @param jsPredicate  JS function returning truthy value when condition is met
+     * @param timeout      timeout in milliseconds
+     * @param errorMessage message of the exception thrown on timeout
+     */
+    @Step("Wait for page condition: '{1}' with timeout: '{2}' milliseconds and error message '{3}'")
+    public static void waitForPageCondition(Page page, String jsPredicate, long timeout, String errorMessage) {
+        var startTime = System.nanoTime();
+        var timedOut = false;
+        try {
+            page.waitForFunction(jsPredicate, null, new Page.WaitForFunctionOptions().setTimeout(timeout));
+        } catch (TimeoutError e) {
+            timedOut = true;
+            throw new ElementTimeoutException(String.format("%s after :%s milliseconds", errorMessage, timeout));
+        } finally {
+            WaitMetrics.record(PAGE_FUNCTION, System.nanoTime() - startTime, timedOut);
         }
     }
 
@@ -47,4 +91,26 @@ public class WaitUtilities {
         }
     }
 
+    /**
+     * Check condition with exponential backoff (10 ms doubling up to 300 ms), never sleeping past the deadline.
+     */
+    private static void waitUntil(Supplier<Boolean> condition, long timeout, String errorMessage) {
+        var startTime = System.nanoTime();
+        var deadline = startTime + MILLISECONDS.toNanos(timeout);
+        var pullingTime = INITIAL_PULLING_TIME;
+        var timedOut = false;
+        try {
+            while (!condition.get()) {
+                var remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    timedOut = true;
+                    throw new ElementTimeoutException(errorMessage);
+                }
+                waitForTime(Math.min(pullingTime, NANOSECONDS.toMillis(remaining) + 1));
+                pullingTime = Math.min(pullingTime * 2, PULLING_TIME);
+            }
+        } finally {
+            WaitMetrics.record(JVM_CONDITION, System.nanoTime() - startTime, timedOut);
+        }
+    }
 }
@@ -0,0 +1,78 @@
+package core.auth;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StorageStateCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void stateWithinTtlIsValid() throws IOException {
+        var state = createState(Instant.now().minus(Duration.ofMinutes(5)));
+
+        assertThat(StorageStateCache.isValid(state, Duration.ofMinutes(30))).isTrue();
+    }
+
+    @Test
+    void stateOlderThanTtlIsExpired() throws IOException {
+        var state = createState(Instant.now().minus(Duration.ofMinutes(31)));
+
+        assertThat(StorageStateCache.isValid(state, Duration.ofMinutes(30))).isFalse();
+    }
+
+    @Test
+    void missingStateIsNotValid() {
+        assertThat(StorageStateCache.isValid(tempDir.resolve("missing.json"), Duration.ofMinutes(30))).isFalse();
+    }
+
+    @Test
+    void changedPasswordGetsAnotherState() {
+        assertThat(StorageStateCache.getStorageStatePath("MrBeast@gmail.com", "ValidPassword123"))
+                .isEqualTo(StorageStateCache.getStorageStatePath("MrBeast@gmail.com", "ValidPassword123"))
+                .isNotEqualTo(StorageStateCache.getStorageStatePath("MrBeast@gmail.com", "NewPassword123"));
+    }
+
+    @Test
+    void usernameIsSanitizedInFileName() {
+        assertThat(StorageStateCache.getStorageStatePath("Mr Beast/1", "secret").getFileName().toString())
+                .matches("Mr_Beast_1-[0-9a-f]{16}\\.json");
+    }
+
+    @Test
+    void failedLoginLeavesNoState() {
+        var state = StorageStateCache.getStorageStatePath("failed-login-user", "password");
+
+        assertThatThrownBy(() -> StorageStateCache.getOrCreate("failed-login-user", "password", Duration.ofMinutes(30), path -> {
+            writeState(path);
+            throw new IllegalStateException("Login failed");
+        })).hasMessage("Login failed");
+
+        assertThat(state).doesNotExist();
+    }
+
+    private Path createState(Instant lastModified) throws IOException {
+        var state = Files.writeString(tempDir.resolve("state.json"), "{}");
+        Files.setLastModifiedTime(state, FileTime.from(lastModified));
+        return state;
+    }
+
+    private static void writeState(Path path) {
+        try {
+            Files.writeString(path, "{}");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
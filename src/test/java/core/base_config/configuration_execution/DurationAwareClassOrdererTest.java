@@ -0,0 +1,96 @@
+package core.base_config.configuration_execution;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+class DurationAwareClassOrdererTest {
+
+    @Test
+    void singleWorkerRunsSubmittedClassesInReverse() {
+        assertThat(DurationAwareClassOrderer.getSubmissionOrder(List.of("L0", "L1", "L2", "L3"), 1))
+                .containsExactly("L3", "L2", "L1", "L0");
+    }
+
+    @Test
+    void classesAreDealtToBothEndsOfSubmission() {
+        // Submitting worker runs from the end (L0, L2, L4), idle workers steal from the beginning (L1, L3, L5)
+        assertThat(DurationAwareClassOrderer.getSubmissionOrder(List.of("L0", "L1", "L2", "L3", "L4", "L5"), 2))
+                .containsExactly("L1", "L3", "L5", "L4", "L2", "L0");
+        assertThat(DurationAwareClassOrderer.getSubmissionOrder(List.of("L0", "L1", "L2", "L3", "L4"), 3))
+                .containsExactly("L1", "L2", "L4", "L3", "L0");
+    }
+
+    @Test
+    void forkJoinExecutorStartsClassesInOrder() {
+        var startedClasses = new CopyOnWriteArrayList<String>();
+        var failures = new CopyOnWriteArrayList<Throwable>();
+        var launcher = LauncherFactory.create(LauncherConfig.builder()
+                .enablePostDiscoveryFilterAutoRegistration(false)
+                .enableTestExecutionListenerAutoRegistration(false)
+                .build());
+
+        launcher.execute(request()
+                .selectors(selectClass(FixtureC.class), selectClass(FixtureA.class), selectClass(FixtureB.class))
+                .configurationParameter("junit.jupiter.conditions.deactivate", "org.junit.*DisabledCondition")
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+                .configurationParameter("junit.jupiter.execution.parallel.mode.classes.default", "concurrent")
+                .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+                .configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "1")
+                .configurationParameter("junit.jupiter.testclass.order.default", DurationAwareClassOrderer.class.getName())
+                .build(), new TestExecutionListener() {
+            @Override
+            public void executionStarted(TestIdentifier testIdentifier) {
+                testIdentifier.getSource()
+                        .filter(ClassSource.class::isInstance)
+                        .map(source -> ((ClassSource) source).getJavaClass().getSimpleName())
+                        .ifPresent(startedClasses::add);
+            }
+
+            @Override
+            public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+                testExecutionResult.getThrowable().ifPresent(failures::add);
+            }
+        });
+
+        assertThat(failures).isEmpty();
+        // Fixtures have no recorded durations, so they are expected to start by name
+        assertThat(startedClasses).containsExactly("FixtureA", "FixtureB", "FixtureC");
+    }
+
+    @Disabled("Run by forkJoinExecutorStartsClassesInOrder")
+    static class FixtureA {
+
+        @Test
+        void test() {
+        }
+    }
+
+    @Disabled("Run by forkJoinExecutorStartsClassesInOrder")
+    static class FixtureB {
+
+        @Test
+        void test() {
+        }
+    }
+
+    @Disabled("Run by forkJoinExecutorStartsClassesInOrder")
+    static class FixtureC {
+
+        @Test
+        void test() {
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    void emptyHistogramReportsZeros() {
+        var histogram = new LatencyHistogram();
+
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getMeanMillis()).isZero();
+        assertThat(histogram.getPercentileMillis(99)).isZero();
+    }
+
+    @Test
+    void summaryIsExact() {
+        var histogram = recordMillis(1, 100);
+
+        assertThat(histogram.getCount()).isEqualTo(100);
+        assertThat(histogram.getTotalMillis()).isCloseTo(5050, within(0.001));
+        assertThat(histogram.getMeanMillis()).isCloseTo(50.5, within(0.001));
+        assertThat(histogram.getMaxMillis()).isCloseTo(100, within(0.001));
+    }
+
+    @Test
+    void percentileIsWithinBucketPrecision() {
+        var histogram = recordMillis(1, 100);
+
+        // Upper bound of the bucket, at most 5% above the exact value
+        assertThat(histogram.getPercentileMillis(50)).isBetween(50.0, 52.5);
+        assertThat(histogram.getPercentileMillis(95)).isBetween(95.0, 99.75);
+        assertThat(histogram.getPercentileMillis(100)).isCloseTo(100, within(0.001));
+    }
+
+    @Test
+    void percentileDoesNotExceedMax() {
+        var histogram = recordMillis(7, 7);
+
+        assertThat(histogram.getPercentileMillis(50)).isCloseTo(7, within(0.001));
+        assertThat(histogram.getPercentileMillis(99)).isCloseTo(7, within(0.001));
+    }
+
+    @Test
+    void subMicrosecondAndHugeLatenciesAreRecorded() {
+        var histogram = new LatencyHistogram();
+        histogram.record(0);
+        histogram.record(MILLISECONDS.toNanos(Long.MAX_VALUE / 1_000_000_000L));
+
+        assertThat(histogram.getCount()).isEqualTo(2);
+        // First bucket ends at 1.05 microseconds, the last one is open ended
+        assertThat(histogram.getPercentileMillis(50)).isLessThan(0.002);
+        assertThat(histogram.getPercentileMillis(100)).isPositive().isLessThanOrEqualTo(histogram.getMaxMillis());
+    }
+
+    private static LatencyHistogram recordMillis(int from, int to) {
+        var histogram = new LatencyHistogram();
+        for (int millis = from; millis <= to; millis++) {
+            histogram.record(MILLISECONDS.toNanos(millis));
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,70 @@
+package core.network;
+
+import core.network.StaticResourceCache.Key;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static enums.config.RoutingProfile.CACHED_STATIC;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StaticResourceCacheTest {
+    private static final Key APP_SCRIPT = new Key(CACHED_STATIC, "http://localhost:8080", "http://cdn.test/app.js");
+    private static final Key APP_STYLE = new Key(CACHED_STATIC, "http://localhost:8080", "http://cdn.test/app.css");
+    private static final Key LOGO = new Key(CACHED_STATIC, "http://localhost:8080", "http://cdn.test/logo.png");
+    private final AtomicLong now = new AtomicLong();
+    private final StaticResourceCache cache = new StaticResourceCache(10, Duration.ofSeconds(60), now::get);
+
+    @Test
+    void encodingHeadersAreNotStored() {
+        cache.put(APP_SCRIPT, 200, Map.of("Content-Encoding", "gzip", "content-length", "20",
+                "transfer-encoding", "chunked", "content-type", "text/javascript"), new byte[4]);
+
+        assertThat(cache.get(APP_SCRIPT)).hasValueSatisfying(response ->
+                assertThat(response.headers()).containsOnly(Map.entry("content-type", "text/javascript")));
+    }
+
+    @Test
+    void entriesOfOtherOriginsAreSeparate() {
+        cache.put(APP_SCRIPT, 200, Map.of(), new byte[4]);
+
+        assertThat(cache.get(new Key(CACHED_STATIC, "https://prod.test", APP_SCRIPT.url()))).isEmpty();
+    }
+
+    @Test
+    void entriesExpireAfterTheirLifetime() {
+        cache.put(APP_SCRIPT, 200, Map.of(), new byte[4]);
+        now.addAndGet(Duration.ofSeconds(59).toNanos());
+        assertThat(cache.get(APP_SCRIPT)).isPresent();
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(cache.get(APP_SCRIPT)).isEmpty();
+        assertThat(cache.getTotalBytes()).isZero();
+    }
+
+    @Test
+    void leastRecentlyUsedEntriesAreEvictedFirst() {
+        cache.put(APP_SCRIPT, 200, Map.of(), new byte[4]);
+        cache.put(APP_STYLE, 200, Map.of(), new byte[4]);
+        cache.get(APP_SCRIPT);
+
+        cache.put(LOGO, 200, Map.of(), new byte[4]);
+
+        assertThat(cache.get(APP_STYLE)).isEmpty();
+        assertThat(cache.get(APP_SCRIPT)).isPresent();
+        assertThat(cache.get(LOGO)).isPresent();
+        assertThat(cache.getTotalBytes()).isEqualTo(8);
+    }
+
+    @Test
+    void bodyLargerThanTheCacheIsNotStored() {
+        cache.put(APP_SCRIPT, 200, Map.of(), new byte[4]);
+
+        cache.put(LOGO, 200, Map.of(), new byte[11]);
+
+        assertThat(cache.get(LOGO)).isEmpty();
+        assertThat(cache.get(APP_SCRIPT)).isPresent();
+    }
+}
@@ -0,0 +1,38 @@
+package core.retry;
+
+import core.retry.FlakinessHistory.Outcome;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class FlakinessHistoryTest {
+
+    @Test
+    void firstRunSetsTheRate() {
+        assertThat(FlakinessHistory.getUpdatedRate(0, 0, Outcome.FLAKY)).isEqualTo(1);
+        assertThat(FlakinessHistory.getUpdatedRate(0, 0, Outcome.PASSED)).isZero();
+        assertThat(FlakinessHistory.getUpdatedRate(0, 0, Outcome.FAILED)).isZero();
+    }
+
+    @Test
+    void flakyRunMovesTheRateTowardsOne() {
+        assertThat(FlakinessHistory.getUpdatedRate(0, 4, Outcome.FLAKY)).isCloseTo(0.2, within(1e-9));
+        assertThat(FlakinessHistory.getUpdatedRate(0.5, 4, Outcome.FLAKY)).isCloseTo(0.6, within(1e-9));
+    }
+
+    @Test
+    void stableRunsDecayTheRate() {
+        assertThat(FlakinessHistory.getUpdatedRate(1, 1, Outcome.PASSED)).isCloseTo(0.8, within(1e-9));
+        assertThat(FlakinessHistory.getUpdatedRate(1, 1, Outcome.FAILED)).isCloseTo(0.8, within(1e-9));
+    }
+
+    @Test
+    void rateConvergesToTheShareOfFlakyRuns() {
+        double rate = 0;
+        for (int run = 0; run < 200; run++) {
+            rate = FlakinessHistory.getUpdatedRate(rate, run, run % 2 == 0 ? Outcome.FLAKY : Outcome.PASSED);
+        }
+        assertThat(rate).isBetween(0.4, 0.6);
+    }
+}
@@ -0,0 +1,26 @@
+package core.retry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryExtensionTest {
+
+    @Test
+    void indexAndArgumentsAreReplaced() {
+        assertThat(RetryExtension.getDisplayName("[{index}] {arguments}", 2, new Object[]{"email", 10}))
+                .isEqualTo("[2] email, 10");
+    }
+
+    @Test
+    void singleArgumentsAreReplacedByPosition() {
+        assertThat(RetryExtension.getDisplayName("Login with invalid {0} format: {1}", 1, new Object[]{"password", null}))
+                .isEqualTo("Login with invalid password format: null");
+    }
+
+    @Test
+    void placeholdersWithoutArgumentAreKept() {
+        assertThat(RetryExtension.getDisplayName("Login with {0} and {1}", 1, new Object[]{"phone"}))
+                .isEqualTo("Login with phone and {1}");
+    }
+}
@@ -0,0 +1,54 @@
+package core.selection;
+
+import core.EnvProperties;
+import core.mock_server.MockBackendServer;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassDependenciesTest {
+    private final ClassDependencies dependencies = new ClassDependencies(getClass().getClassLoader());
+
+    @Test
+    void projectClassesAreFollowedTransitively() {
+        var transitiveDependencies = dependencies.getTransitiveDependencies(ImpactedTestFilter.class.getName());
+
+        assertThat(transitiveDependencies).contains(
+                ImpactedTestFilter.class.getName(),
+                ClassDependencies.class.getName(),
+                TestClasses.class.getName(),
+                EnvProperties.class.getName());
+    }
+
+    @Test
+    void libraryClassesAreNotFollowed() {
+        assertThat(dependencies.getTransitiveDependencies(ImpactedTestFilter.class.getName()))
+                .noneMatch(className -> className.startsWith("org.junit.") || className.startsWith("java."));
+        assertThat(dependencies.getTransitiveDependencies(Test.class.getName())).containsExactly(Test.class.getName());
+    }
+
+    @Test
+    void fieldDescriptorTypesAreReadAsTopLevelClasses() {
+        assertThat(dependencies.getTransitiveDependencies(Fixture.class.getName()))
+                .containsExactlyInAnyOrder(ClassDependenciesTest.class.getName(), TestClasses.class.getName());
+    }
+
+    @Test
+    void inlinedConstantsAreNotDependencies() {
+        assertThat(dependencies.getTransitiveDependencies(ConstantFixture.class.getName()))
+                .doesNotContain(MockBackendServer.class.getName());
+    }
+
+    @SuppressWarnings("unused")
+    static class Fixture {
+        private TestClasses testClasses;
+    }
+
+    /**
+     * Compile time constant is copied into the constant pool of the fixture, its class is not referenced
+     */
+    @SuppressWarnings("unused")
+    static class ConstantFixture {
+        private final String twoFactorCode = MockBackendServer.TWO_FACTOR_CODE;
+    }
+}
@@ -0,0 +1,37 @@
+package core.selection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class ShardFilterTest {
+
+    @Test
+    void longestClassesGoToLeastLoadedShard() {
+        var assignment = ShardFilter.assignShards(Map.of("A", 10L, "B", 8L, "C", 6L, "D", 4L, "E", 2L), 2);
+
+        assertThat(assignment).containsOnly(entry("A", 0), entry("B", 1), entry("C", 1), entry("D", 0), entry("E", 0));
+    }
+
+    @Test
+    void equalWeightsAreDistributedByClassName() {
+        var assignment = ShardFilter.assignShards(Map.of("D", 1L, "C", 1L, "B", 1L, "A", 1L), 3);
+
+        assertThat(assignment).containsOnly(entry("A", 0), entry("B", 1), entry("C", 2), entry("D", 0));
+    }
+
+    @Test
+    void longClassIsNotSharedWithOthers() {
+        var assignment = ShardFilter.assignShards(Map.of("Long", 100L, "A", 30L, "B", 30L, "C", 30L), 2);
+
+        assertThat(assignment).containsOnly(entry("Long", 0), entry("A", 1), entry("B", 1), entry("C", 1));
+    }
+
+    @Test
+    void singleShardGetsAllClasses() {
+        assertThat(ShardFilter.assignShards(Map.of("A", 5L, "B", 3L), 1)).containsOnly(entry("A", 0), entry("B", 0));
+    }
+}
@@ -1,44 +1,145 @@
 package tests;
 
+import annotations.common.LoggedIn;
+import annotations.common.NetworkRouting;
 import annotations.common.RunBrowser;
 import annotations.common.URI;
 import com.microsoft.playwright.Browser;
 import com.microsoft.playwright.BrowserContext;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.WaitUntilState;
+import core.artifacts.TraceRecorder;
+import core.auth.LoginFlow;
+import core.auth.StorageStateCache;
 import core.base_config.common.ThreadLoggingListener;
+import core.base_config.configuration_execution.ClassDurationRecorder;
+import core.metrics.NavigationMetricsCollector;
+import core.metrics.PerformanceBudgets;
+import core.metrics.RunHistory;
+import core.metrics.StepTimings;
+import core.network.HarRouting;
+import core.network.NetworkRouter;
+import core.retry.RetryExtension;
+import core.listeners.AssertionTimeoutBudgetListener;
 import core.listeners.ListenerTestExecution;
+import enums.config.HarRoutingMode;
+import enums.config.RoutingProfile;
 import io.qameta.allure.Step;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.opentest4j.MultipleFailuresError;
 import pages.AbstractBaseSteps;
 
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static core.EnvProperties.getHarRoutingMode;
 import static core.EnvProperties.getViewportHeight;
 import static core.EnvProperties.getViewportWidth;
+import static core.EnvProperties.isSelectorCheckEnabled;
+import static core.EnvProperties.isTracingEnabled;
+import static core.base_config.browser_config.BrowserContextHolder.get;
+import static core.base_config.browser_config.BrowserContextHolder.remove;
+import static core.base_config.browser_config.BrowserContextHolder.removeActivePage;
 import static core.base_config.browser_config.BrowserContextHolder.set;
+import static core.base_config.browser_config.BrowserContextHolder.setActivePage;
 import static core.base_config.configuration_execution.ConfigurationExecution.getLaunchConfig;
 import static pages.AbstractBaseSteps.DEFAULT_TIMEOUT;
 import static java.lang.String.format;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
-@ExtendWith({ListenerTestExecution.class, ThreadLoggingListener.class})
+@ExtendWith({ListenerTestExecution.class, ThreadLoggingListener.class, ClassDurationRecorder.class, RetryExtension.class,
+        AssertionTimeoutBudgetListener.class})
 @RunBrowser()
 public abstract class BaseTest {
     private static final int NAVIGATION_TIMEOUT = 60000;
+    private TestInfo testInfo;
+
+    @BeforeEach
+    void prepareTest(TestInfo testInfo) {
+        this.testInfo = testInfo;
+    }
 
     protected Browser getBrowser() {
         return getLaunchConfig().getBrowser();
     }
 
-    @Step("Create browser context")
-    private BrowserContext createBrowserContext() {
-        BrowserContext browserContext = getBrowser().newContext();
+    @Step("Create browser context for page: '{0}'")
+    private BrowserContext createBrowserContext(Class<?> pageClass) {
+        var loggedIn = getClass().getAnnotation(LoggedIn.class);
+        var harRoutingMode = getHarRoutingMode();
+        // Recorded HAR is saved on close, so recording contexts are never taken from the pool
+        var contextPool = harRoutingMode == HarRoutingMode.RECORD ? null : getLaunchConfig().getContextPool();
+        BrowserContext browserContext;
+        if (loggedIn != null) {
+            browserContext = getBrowser().newContext(new Browser.NewContextOptions()
+                    .setStorageStatePath(getStorageState(loggedIn)));
+        } else {
+            browserContext = contextPool != null ? contextPool.acquire() : getBrowser().newContext();
+        }
         set(browserContext);
+        if (harRoutingMode != HarRoutingMode.OFF) {
+            installHarRouting(browserContext, pageClass, harRoutingMode);
+        }
+        installRoutingProfile(browserContext, getRoutingProfile());
+        if (isTracingEnabled()) {
+            TraceRecorder.start(browserContext);
+        }
         return browserContext;
     }
 
+    @Step("Install HAR routing for page: '{1}' in mode: '{2}'")
+    private void installHarRouting(BrowserContext browserContext, Class<?> pageClass, HarRoutingMode harRoutingMode) {
+        var testMethod = testInfo != null ? testInfo.getTestMethod().map(Method::getName).orElse("flow") : "flow";
+        HarRouting.install(browserContext, HarRouting.getHarPath(pageClass, getClass(), testMethod), harRoutingMode);
+    }
+
+    @Step("Install network routing profile: '{1}'")
+    private void installRoutingProfile(BrowserContext browserContext, RoutingProfile routingProfile) {
+        NetworkRouter.install(browserContext, routingProfile);
+    }
+
+    private RoutingProfile getRoutingProfile() {
+        var networkRouting = getClass().getAnnotation(NetworkRouting.class);
+        return networkRouting != null ? networkRouting.value() : getLaunchConfig().getRoutingProfile();
+    }
+
+    @Step("Get storage state of logged in user: '{0}'")
+    private Path getStorageState(LoggedIn loggedIn) {
+        return StorageStateCache.getOrCreate(loggedIn.username(), loggedIn.password(), Duration.ofMinutes(loggedIn.ttlMinutes()),
+                storageStatePath -> logInAndSaveStorageState(loggedIn, storageStatePath));
+    }
+
+    @Step("Log in and save storage state to: '{1}'")
+    private void logInAndSaveStorageState(LoggedIn loggedIn, Path storageStatePath) {
+        LoginFlow loginFlow = initializeLoginFlow(loggedIn);
+        BrowserContext browserContext = getBrowser().newContext();
+        try {
+            set(browserContext);
+            Page page = createAndConfigurePage(browserContext, getViewportWidth(), getViewportHeight());
+            navigateToUrl(page, getUrl(loginFlow.getLoginPageClass()));
+            loginFlow.logIn(page, loggedIn);
+            browserContext.storageState(new BrowserContext.StorageStateOptions().setPath(storageStatePath));
+        } finally {
+            browserContext.close();
+            remove();
+        }
+    }
+
     @Step("Create and configure page with viewport: {0}x{1}")
     private Page createAndConfigurePage(BrowserContext browserContext, int width, int height) {
-        Page page = browserContext.newPage();
+        // Pooled contexts already have a warm page
+        Page page = browserContext.pages().isEmpty() ? browserContext.newPage() : browserContext.pages().get(0);
+        return createAndConfigurePage(page, width, height);
+    }
+
+    private Page createAndConfigurePage(Page page, int width, int height) {
         page.setViewportSize(width, height);
         page.setDefaultTimeout(DEFAULT_TIMEOUT);
         page.setDefaultNavigationTimeout(NAVIGATION_TIMEOUT);
@@ -47,19 +148,98 @@ public abstract class BaseTest {
 
     @Step("Navigate to URL: '{0}'")
     private void navigateToUrl(Page page, String url) {
-        page.navigate(url);
-        page.waitForLoadState();
+        // Readiness of the page is awaited once by the page instance
+        page.navigate(url, new Page.NavigateOptions().setWaitUntil(WaitUntilState.COMMIT));
     }
 
     @Step("Open fresh browser on page: '{0}'")
     public <T extends AbstractBaseSteps> T openFreshBrowserWithPageSiteUrl(Class<T> clazz) {
-        BrowserContext browserContext = createBrowserContext();
-        int viewportWidth = getViewportWidth();
-        int viewportHeight = getViewportHeight();
-        Page page = createAndConfigurePage(browserContext, viewportWidth, viewportHeight);
+        return StepTimings.time("openFreshBrowserWithPageSiteUrl", clazz, () -> {
+            BrowserContext browserContext = StepTimings.time("createBrowserContext", clazz, () -> createBrowserContext(clazz));
+            int viewportWidth = getViewportWidth();
+            int viewportHeight = getViewportHeight();
+            Page page = StepTimings.time("createAndConfigurePage", clazz,
+                    () -> createAndConfigurePage(browserContext, viewportWidth, viewportHeight));
+            String url = getUrl(clazz);
+            long navigationStart = System.nanoTime();
+            StepTimings.run("navigateToUrl", clazz, () -> navigateToUrl(page, url));
+            verifySessionIsValid(page, clazz);
+            T pageInstance = StepTimings.time("initializePageInstance", clazz, () -> initializePageInstance(clazz));
+            pageInstance.waitUntilReady();
+            RunHistory.recordNavigation(clazz, System.nanoTime() - navigationStart);
+            StepTimings.time("collectNavigationMetrics", clazz, () -> NavigationMetricsCollector.collect(page, clazz))
+                    .ifPresent(metrics -> PerformanceBudgets.evaluate(clazz, metrics));
+            if (isSelectorCheckEnabled()) {
+                pageInstance.verifyRequiredSelectors();
+            }
+            return pageInstance;
+        });
+    }
+
+    /**
+     * A cached session may expire on the server before its TTL, the app then redirects to the login page.
+     * The storage state is invalidated, so the retry of the test (or the next test) logs in again.
+     */
+    @Step("Verify session of logged in user is valid on page: '{1}'")
+    private void verifySessionIsValid(Page page, Class<?> pageClass) {
+        var loggedIn = getClass().getAnnotation(LoggedIn.class);
+        if (loggedIn == null) {
+            return;
+        }
+        var loginPageClass = initializeLoginFlow(loggedIn).getLoginPageClass();
+        if (pageClass == loginPageClass || !page.url().startsWith(getUrl(loginPageClass))) {
+            return;
+        }
+        StorageStateCache.invalidate(loggedIn.username(), loggedIn.password());
+        throw new IllegalStateException(format("Session of user %s expired, %s redirects to the login page. Cached storage state is invalidated",
+                loggedIn.username(), pageClass.getSimpleName()));
+    }
+
+    /**
+     * Preload one page of the class per parameter inside the current browser context, then run the check on each of them.
+     * Only the page loads overlap: navigations of all pages are started before the first check, so the browser loads
+     * them concurrently. Checks run one by one on the test thread, because Playwright objects are bound to it,
+     * and all failures are reported together.
+     *
+     * @param clazz         page class
+     * @param parameters    parameters to fan out
+     * @param configurePage page configuration applied before navigation, e.g. viewport
+     * @param check         read-only check of the page
+     */
+    @Step("Preload page: '{0}' for parameters: '{1}'")
+    public <T extends AbstractBaseSteps, P> void preloadPages(Class<T> clazz, List<P> parameters,
+                                                              BiConsumer<Page, P> configurePage, BiConsumer<T, P> check) {
+        BrowserContext browserContext = get() != null ? get() : createBrowserContext(clazz);
         String url = getUrl(clazz);
-        navigateToUrl(page, url);
-        return initializePageInstance(clazz);
+        List<Page> pages = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        try {
+            for (P parameter : parameters) {
+                Page page = createAndConfigurePage(browserContext.newPage(), getViewportWidth(), getViewportHeight());
+                configurePage.accept(page, parameter);
+                navigateToUrl(page, url);
+                pages.add(page);
+            }
+            for (int i = 0; i < parameters.size(); i++) {
+                P parameter = parameters.get(i);
+                setActivePage(pages.get(i));
+                try {
+                    T pageInstance = initializePageInstance(clazz);
+                    pageInstance.waitUntilReady();
+                    check.accept(pageInstance, parameter);
+                } catch (AssertionError | RuntimeException e) {
+                    failures.add(new AssertionError(format("%s: %s", parameter, e.getMessage()), e));
+                } finally {
+                    removeActivePage();
+                }
+            }
+        } finally {
+            pages.forEach(Page::close);
+        }
+        if (!failures.isEmpty()) {
+            throw new MultipleFailuresError(format("%s checks failed for %s of %s parameters",
+                    clazz.getSimpleName(), failures.size(), parameters.size()), failures);
+        }
     }
 
     @Step("Get url from class: '{0}'")
@@ -79,6 +259,14 @@ public abstract class BaseTest {
         }
     }
 
+    private LoginFlow initializeLoginFlow(LoggedIn loggedIn) {
+        try {
+            return loggedIn.loginFlow().getDeclaredConstructor().newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException(format("Failed to initialize login flow: %s", loggedIn.loginFlow().getName()), e);
+        }
+    }
+
     @Step("Initialize page instance from class: '{0}'")
     private <T extends AbstractBaseSteps> T initializePageInstance(Class<T> clazz) {
         try {
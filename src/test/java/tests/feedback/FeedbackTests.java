@@ -1,11 +1,11 @@
 package tests.feedback;
 
+import annotations.common.RetryingTest;
 import annotations.functional.Feedback;
 import annotations.test_types.Regression;
 import annotations.test_types.Smoke;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
-import org.junit.jupiter.api.Test;
 import pages.feedback.FeedbackPage;
 import tests.BaseTest;
 
@@ -28,7 +28,7 @@ public class FeedbackTests extends BaseTest {
     }
 
     @Smoke
-    @Test
+    @RetryingTest
     @DisplayName("Submit feedback form with all valid mandatory fields")
     void submitFeedbackFormWithValidData() {
         feedbackPage.fillName(VALID_NAME)
@@ -39,7 +39,7 @@ public class FeedbackTests extends BaseTest {
     }
 
     @Smoke
-    @Test
+    @RetryingTest
     @DisplayName("Submit feedback form with empty mandatory fields")
     void submitFeedbackFormWithEmptyFields() {
         feedbackPage.clickSendButton()
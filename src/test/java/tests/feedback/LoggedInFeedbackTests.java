@@ -0,0 +1,41 @@
+package tests.feedback;
+
+import annotations.common.LoggedIn;
+import annotations.common.RetryingTest;
+import annotations.functional.Feedback;
+import annotations.test_types.Regression;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import pages.feedback.FeedbackPage;
+import pages.login.TwoFactorLoginFlow;
+import tests.BaseTest;
+
+import static core.base_config.browser_config.BrowserContextHolder.get;
+import static core.mock_server.MockBackendServer.TWO_FACTOR_CODE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verification code of the real application is not known, so the class runs only against the mock backend
+ */
+@Regression
+@Feedback
+@EnabledIfSystemProperty(named = "MOCK_BACKEND", matches = "true")
+@LoggedIn(username = "MrBeast@gmail.com", password = "ValidPassword123", twoFactorCode = TWO_FACTOR_CODE,
+        loginFlow = TwoFactorLoginFlow.class)
+public class LoggedInFeedbackTests extends BaseTest {
+    private static final String SESSION_COOKIE = "session";
+
+    @RetryingTest
+    @DisplayName("Logged in user submits feedback with the cached session")
+    void loggedInUserSubmitsFeedback() {
+        var feedbackPage = openFreshBrowserWithPageSiteUrl(FeedbackPage.class);
+        assertThat(get().cookies())
+                .as("Session cookie of the logged in user")
+                .anyMatch(cookie -> SESSION_COOKIE.equals(cookie.name));
+        feedbackPage.fillName("Mister Beast")
+                .fillEmail("MrBeast@gmail.com")
+                .fillMessage("Feedback of a logged in user.")
+                .clickSendButton()
+                .verifyConfirmationMessage("Thank you for your feedback!");
+    }
+}
@@ -1,12 +1,12 @@
 package tests.login;
 
+import annotations.common.RetryingParameterizedTest;
+import annotations.common.RetryingTest;
 import annotations.functional.Login;
 import annotations.test_types.Regression;
 import annotations.test_types.Smoke;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
-import org.junit.jupiter.api.Test;
-import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import pages.login.LoginPage;
@@ -32,14 +32,14 @@ public class LoginTests extends BaseTest {
     }
 
     @Smoke
-    @Test
+    @RetryingTest
     @DisplayName("Verify login form UI elements are visible")
     void verifyLoginFormElementsAreVisible() {
         loginPage.verifyLoginPageUI();
     }
 
     @Smoke
-    @ParameterizedTest(name = "Successful login with {0}")
+    @RetryingParameterizedTest(name = "Successful login with {0}")
     @MethodSource("validCredentialsProvider")
     @DisplayName("Successful login with valid credentials")
     void successfulLoginWithValidCredentials(String username) {
@@ -49,14 +49,14 @@ public class LoginTests extends BaseTest {
         new TwoFactorVerificationPage().verifyTwoFactorVerificationPagePresent();
     }
 
-    @Test
+    @RetryingTest
     @DisplayName("Login with empty fields - verify error messages")
     void loginWithEmptyFields() {
         loginPage.clickLoginButton()
                 .verifyLoginFormErrorMessage(INVALID_LOGIN_ERROR);
     }
 
-    @Test
+    @RetryingTest
     @DisplayName("Login with wrong password for valid email")
     void loginWithWrongPasswordForValidEmail() {
         loginPage.fillUsername(validEmail)
@@ -65,7 +65,7 @@ public class LoginTests extends BaseTest {
                 .verifyLoginFormErrorMessage(INVALID_LOGIN_ERROR);
     }
 
-    @Test
+    @RetryingTest
     @DisplayName("Verify fields can be cleared")
     void verifyFieldsCanBeCleared() {
         loginPage.fillUsername(validEmail)
@@ -77,7 +77,7 @@ public class LoginTests extends BaseTest {
                 .verifyPasswordFieldIsEmpty();
     }
 
-    @ParameterizedTest(name = "Login with empty {0} - verify error message")
+    @RetryingParameterizedTest(name = "Login with empty {0} - verify error message")
     @MethodSource("emptyFieldProvider")
     @DisplayName("Login with empty field validation")
     void loginWithEmptyField(String fieldType) {
@@ -90,7 +90,7 @@ public class LoginTests extends BaseTest {
                 .verifyLoginFormErrorMessage(INVALID_LOGIN_ERROR);
     }
 
-    @ParameterizedTest(name = "Login with invalid {0} format")
+    @RetryingParameterizedTest(name = "Login with invalid {0} format")
     @MethodSource("invalidFormatProvider")
     @DisplayName("Login with invalid format validation")
     void loginWithInvalidFormat(String fieldType, String invalidValue) {
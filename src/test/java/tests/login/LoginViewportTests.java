@@ -0,0 +1,24 @@
+package tests.login;
+
+import annotations.common.RetryingTest;
+import annotations.functional.Login;
+import annotations.test_types.Regression;
+import enums.config.ViewportPreset;
+import org.junit.jupiter.api.DisplayName;
+import pages.login.LoginPage;
+import tests.BaseTest;
+
+import java.util.List;
+
+@Regression
+@Login
+public class LoginViewportTests extends BaseTest {
+
+    @RetryingTest
+    @DisplayName("Verify login form UI elements are visible on all viewports")
+    void verifyLoginFormElementsAreVisibleOnAllViewports() {
+        preloadPages(LoginPage.class, List.of(ViewportPreset.values()),
+                (page, viewport) -> page.setViewportSize(viewport.getWidth(), viewport.getHeight()),
+                (page, viewport) -> page.verifyLoginPageUI());
+    }
+}
@@ -0,0 +1,55 @@
+package utils;
+
+import exceptions.ElementTimeoutException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WaitUtilitiesTest {
+
+    @Test
+    void metConditionIsCheckedOnce() {
+        var checks = new AtomicInteger();
+
+        WaitUtilities.waitForCondition(() -> checks.incrementAndGet() > 0, 1000, "Condition is not met");
+
+        assertThat(checks).hasValue(1);
+    }
+
+    @Test
+    void conditionIsCheckedUntilItIsMet() {
+        var checks = new AtomicInteger();
+
+        WaitUtilities.waitForCondition(() -> checks.incrementAndGet() >= 3, 5000, "Condition is not met");
+
+        assertThat(checks).hasValue(3);
+    }
+
+    @Test
+    void timeoutIsNotExceededBySleep() {
+        var startTime = System.nanoTime();
+
+        assertThatThrownBy(() -> WaitUtilities.waitForCondition(() -> false, 1000, "Condition is not met"))
+                .isInstanceOf(ElementTimeoutException.class)
+                .hasMessage("Condition is not met after :1000 milliseconds");
+
+        var elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        // Never gives up early; the ceiling only guards against waiting for many more intervals on a loaded machine
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(1000L).isLessThan(5000L);
+    }
+
+    @Test
+    void pollingBacksOffExponentially() {
+        var checks = new AtomicInteger();
+
+        assertThatThrownBy(() -> WaitUtilities.waitForCondition(() -> checks.incrementAndGet() < 0, 300, "Condition is not met"))
+                .isInstanceOf(ElementTimeoutException.class);
+
+        // Sleeps of 10, 20, 40 and 80 ms, then 160 ms cut at the deadline (about 150 ms left): a few checks,
+        // neither a busy loop nor a single 300 ms interval
+        assertThat(checks.get()).isBetween(3, 10);
+    }
+}